@@ -3,21 +3,35 @@
  */
 package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.ConnectException;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.util.CollectionUtils;
@@ -29,12 +43,25 @@ import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.AudioCommandType;
 import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.AudioCrosspoint;
 import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.AudioInput;
-import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.EnumTypeHandler;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.CommandCircuitBreaker;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.CommandFamily;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.ControlTarget;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.ControllablePropertyRegistry;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.DeviceState;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.FirmwareCapabilities;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.LatencyHistogram;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.MonitoringPlan;
 import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.NetworkInformation;
-import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.PropertiesControlList;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.PropertyKeyTable;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.RefreshTier;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.ResponseBuffer;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.ResponseParser;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.ResponseStore;
 import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.StreamSettings;
 import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.VaddioCommand;
 import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.VaddioNanoConstant;
@@ -63,14 +90,59 @@ import com.avispl.symphony.dal.util.StringUtils;
 public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Monitorable, Controller {
 
 	/**
-	 * cache to store key and value
+	 * labels of all streaming settings in the response of {@link VaddioCommand#STREAM_SETTINGS}
+	 */
+	private static final String[] STREAM_SETTINGS_LABELS = Arrays.stream(StreamSettings.values()).map(StreamSettings::getValue).toArray(String[]::new);
+
+	/**
+	 * labels of all network information in the response of {@link VaddioCommand#NETWORK_INFO}
+	 */
+	private static final String[] NETWORK_INFORMATION_LABELS = Arrays.stream(NetworkInformation.values()).map(NetworkInformation::getValue).toArray(String[]::new);
+
+	/**
+	 * cache to store key and value of the text responses
 	 */
 	private final Map<String, String> cacheKeyAndValue = new HashMap<>();
 
+	/**
+	 * typed audio and video state, the responses of mute, volume, crosspoint gain and route are parsed into it on arrival
+	 */
+	private final DeviceState deviceState = new DeviceState();
+
+	/**
+	 * cache to store the time when each group of {@link #cacheKeyAndValue} and {@link #deviceState} was retrieved
+	 */
+	private final Map<String, Long> cacheTimestamps = new HashMap<>();
+
+	/**
+	 * groups of the {@link RefreshTier#FAST} tier, they are selected first when the expired commands don't fit in {@link #commandsPerPoll}
+	 */
+	private final Set<String> fastRefreshGroups = new HashSet<>();
+
+	/**
+	 * every group of the monitoring plan in the latest poll, they are all stale while the device is unreachable
+	 */
+	private final Set<String> monitoringPlanGroups = new LinkedHashSet<>();
+
+	/**
+	 * fingerprint of the latest response of each group, an unchanged response isn't parsed again
+	 */
+	private final Map<String, Long> responseFingerprints = new HashMap<>();
+
+	/**
+	 * statistics rendered from the responses of network settings, version and streaming settings, with the fingerprint they were rendered from
+	 */
+	private final Map<String, Map.Entry<Long, Map<String, String>>> renderedResponses = new HashMap<>();
+
+	/**
+	 * refresh interval in milliseconds of each refresh tier
+	 */
+	private final Map<RefreshTier, Long> refreshIntervals = new EnumMap<>(RefreshTier.class);
+
 	/**
 	 * count the failed command
 	 */
-	private final Map<String, String> failedMonitor = new HashMap<>();
+	private final Map<String, CommandCircuitBreaker> failedMonitor = new HashMap<>();
 
 	/**
 	 * Prevent case where {@link VaddioBridgeNanoCommunicator#controlProperty(ControllableProperty)} slow down -
@@ -84,33 +156,221 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 
 	/**
 	 * ReentrantLock to prevent telnet session is closed when adapter is retrieving statistics from the device.
+	 * The lock is fair, so a control waiting for it is served when polling yields between commands
+	 */
+	private final ReentrantLock reentrantLock = new ReentrantLock(true);
+
+	/**
+	 * latest value of each property waiting for {@link #reentrantLock}, a burst of controls on one property is coalesced into the latest value.
+	 * Polling yields the lock between commands while it's not empty
 	 */
-	private final ReentrantLock reentrantLock = new ReentrantLock();
+	private final Map<String, String> pendingControlValues = new ConcurrentHashMap<>();
 
 	/**
-	 * Store previous/current ExtendedStatistics
+	 * Store previous/current ExtendedStatistics. A published snapshot is never modified,
+	 * polls and controls build a new snapshot and swap it in, so readers never wait for the device
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private final AtomicReference<ExtendedStatistics> localExtendedStatistics = new AtomicReference<>();
 
 	/**
 	 * configManagement imported from the user interface
 	 */
 	private String configManagement;
 
+	/**
+	 * pollingInterval in seconds imported from the user interface
+	 */
+	private String pollingInterval;
+
+	/**
+	 * staticRefreshInterval in seconds imported from the user interface, applied to commands that almost never change
+	 */
+	private String staticRefreshInterval;
+
+	/**
+	 * slowRefreshInterval in seconds imported from the user interface, applied to settings, volumes and crosspoint matrix
+	 */
+	private String slowRefreshInterval;
+
+	/**
+	 * fastRefreshInterval in seconds imported from the user interface, applied to mute states
+	 */
+	private String fastRefreshInterval;
+
+	/**
+	 * commandsPerPoll imported from the user interface, maximum number of monitoring commands sent in one poll.
+	 * The mute states take at most half of the commands, the rest goes to the least recently refreshed groups, so the expired commands
+	 * which don't fit are sent in the next polls. 0 or empty disables the limit
+	 */
+	private String commandsPerPoll;
+
+	/**
+	 * pollTimeBudget in seconds imported from the user interface, a poll stops sending commands once it has run for this long.
+	 * The commands of a time limited poll are sent the least recently refreshed first, so the commands it didn't reach are sent first in the next poll.
+	 * 0 disables the limit
+	 */
+	private String pollTimeBudget;
+
+	/**
+	 * latencyMetrics imported from the user interface, the AdapterMetrics group is published if it's true: the session age and reconnect count,
+	 * the number of unsupported commands, the latency percentiles of every command family, the poll duration, the number of commands per poll
+	 * and the number of timeouts
+	 */
+	private String latencyMetrics;
+
+	/**
+	 * monitoredGroups imported from the user interface, comma separated names of the groups to monitor,
+	 * e.g. StreamingSettings,OutputMutes,CrosspointHDMIOutLeft. Every group is monitored if it's empty
+	 */
+	private String monitoredGroups;
+
+	/**
+	 * monitoring plan compiled from {@link #configManagement} and {@link #monitoredGroups}
+	 */
+	private MonitoringPlan monitoringPlan = MonitoringPlan.compile(false, null);
+
+	/**
+	 * config management flag and monitored groups {@link #monitoringPlan} was compiled from
+	 */
+	private String monitoringPlanSource;
+
+	/**
+	 * warmStartDirectory imported from the user interface, the latest responses of the device are stored in it
+	 * and restored at startup, warm start is disabled if it's empty
+	 */
+	private String warmStartDirectory;
+
+	/**
+	 * store of the latest responses of the device, null if warm start is disabled
+	 */
+	private ResponseStore responseStore;
+
+	/**
+	 * latest response of each group, in the form they are stored by {@link #responseStore}
+	 */
+	private final Map<String, String> latestResponses = new LinkedHashMap<>();
+
+	/**
+	 * isResponseStoreDirty is set when a response has changed since {@link #responseStore} was written
+	 */
+	private boolean isResponseStoreDirty;
+
+	/**
+	 * Executor that runs the polling worker
+	 */
+	private ExecutorService executorService;
+
+	/**
+	 * Polling worker which refreshes the device state in the background
+	 */
+	private DevicePollingWorker devicePollingWorker;
+
+	/**
+	 * The polling worker keeps refreshing the device state until this timestamp,
+	 * it's extended on every {@link #getMultipleStatistics()} call
+	 */
+	private volatile long validRetrieveStatisticsTimestamp;
+
+	/**
+	 * Error of the latest polling cycle, null if the latest cycle completed
+	 */
+	private volatile Exception latestPollingError;
+
 	/**
 	 * isConfigManagement to check if true accept all controllable properties, of false accept monitoring only
 	 */
 	private boolean isConfigManagement;
 
 	/**
-	 * isEmergencyDelivery to check if control flow is trigger
+	 * isEmergencyDelivery to check if control flow is trigger, the next poll is skipped and clears it
 	 */
 	private boolean isEmergencyDelivery;
 
 	/**
-	 * isNextPollingInterval to check next PollingInterval to retrieve crosspoint gain of the device
+	 * isDeviceUnreachable is set when a command fails on the transport, the rest of the poll is aborted
+	 * and polling is replaced by a reachability probe until the device answers again
 	 */
-	private boolean isNextPollingInterval;
+	private volatile boolean isDeviceUnreachable;
+
+	/**
+	 * time the current poll must stop sending commands at, 0 if the poll has no time budget
+	 */
+	private long pollDeadline;
+
+	/**
+	 * capabilities of the firmware of the device, probed once after every login. It's null while the firmware is unknown, then no command is pruned
+	 */
+	private FirmwareCapabilities firmwareCapabilities;
+
+	/**
+	 * isFirmwareProbeRequired is set by a new login, the next poll probes the firmware version before it builds the polling plan
+	 */
+	private boolean isFirmwareProbeRequired = true;
+
+	/**
+	 * time the current SSH session was established, 0 if no session was established yet
+	 */
+	private volatile long sessionStartTimestamp;
+
+	/**
+	 * time of the latest command written to the SSH session
+	 */
+	private volatile long lastActivityTimestamp;
+
+	/**
+	 * number of sessions established after the first one
+	 */
+	private volatile int reconnectCount;
+
+	/**
+	 * latencies of the commands sent to the device by command family, recorded since the adapter was initialized
+	 */
+	private final Map<CommandFamily, LatencyHistogram> commandLatencies = new EnumMap<>(CommandFamily.class);
+
+	/**
+	 * duration of the latest poll in milliseconds
+	 */
+	private long pollDuration;
+
+	/**
+	 * number of monitoring commands sent by the latest poll
+	 */
+	private int pollCommandCount;
+
+	/**
+	 * number of reads which timed out since the adapter was initialized
+	 */
+	private volatile long timeoutCount;
+
+	/**
+	 * number of consecutive failed connection attempts
+	 */
+	private int connectFailureCount;
+
+	/**
+	 * a new connection is not attempted before this timestamp, it's pushed back exponentially after every failed attempt
+	 */
+	private long nextConnectAttemptTimestamp;
+
+	/**
+	 * number of prompts expected while a pipelined batch of commands is being read, 0 when a single command is sent
+	 */
+	private int pipelinedCommandCount;
+
+	/**
+	 * {@link System#nanoTime()} each prompt of the pipelined batch was received at, the response of a command ends with its prompt
+	 */
+	private final long[] promptTimestamps = new long[VaddioNanoConstant.MAX_PIPELINED_COMMANDS];
+
+	/**
+	 * isPipelineSupported is set to false once the device returns a batch that can't be split into per-command responses
+	 */
+	private boolean isPipelineSupported = true;
+
+	/**
+	 * buffer the output of the channel is read into, reused by every command
+	 */
+	private final ResponseBuffer responseBuffer = new ResponseBuffer();
 
 	/**
 	 * Retrieves {@link #configManagement}
@@ -130,6 +390,221 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 		this.configManagement = configManagement;
 	}
 
+	/**
+	 * Retrieves {@link #pollingInterval}
+	 *
+	 * @return value of {@link #pollingInterval}
+	 */
+	public String getPollingInterval() {
+		return pollingInterval;
+	}
+
+	/**
+	 * Sets {@link #pollingInterval} value
+	 *
+	 * @param pollingInterval new value of {@link #pollingInterval}
+	 */
+	public void setPollingInterval(String pollingInterval) {
+		this.pollingInterval = pollingInterval;
+	}
+
+	/**
+	 * Retrieves {@link #staticRefreshInterval}
+	 *
+	 * @return value of {@link #staticRefreshInterval}
+	 */
+	public String getStaticRefreshInterval() {
+		return staticRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #staticRefreshInterval} value
+	 *
+	 * @param staticRefreshInterval new value of {@link #staticRefreshInterval}
+	 */
+	public void setStaticRefreshInterval(String staticRefreshInterval) {
+		this.staticRefreshInterval = staticRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #slowRefreshInterval}
+	 *
+	 * @return value of {@link #slowRefreshInterval}
+	 */
+	public String getSlowRefreshInterval() {
+		return slowRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #slowRefreshInterval} value
+	 *
+	 * @param slowRefreshInterval new value of {@link #slowRefreshInterval}
+	 */
+	public void setSlowRefreshInterval(String slowRefreshInterval) {
+		this.slowRefreshInterval = slowRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #fastRefreshInterval}
+	 *
+	 * @return value of {@link #fastRefreshInterval}
+	 */
+	public String getFastRefreshInterval() {
+		return fastRefreshInterval;
+	}
+
+	/**
+	 * Sets {@link #fastRefreshInterval} value
+	 *
+	 * @param fastRefreshInterval new value of {@link #fastRefreshInterval}
+	 */
+	public void setFastRefreshInterval(String fastRefreshInterval) {
+		this.fastRefreshInterval = fastRefreshInterval;
+	}
+
+	/**
+	 * Retrieves {@link #commandsPerPoll}
+	 *
+	 * @return value of {@link #commandsPerPoll}
+	 */
+	public String getCommandsPerPoll() {
+		return commandsPerPoll;
+	}
+
+	/**
+	 * Sets {@link #commandsPerPoll} value
+	 *
+	 * @param commandsPerPoll new value of {@link #commandsPerPoll}
+	 */
+	public void setCommandsPerPoll(String commandsPerPoll) {
+		this.commandsPerPoll = commandsPerPoll;
+	}
+
+	/**
+	 * Retrieves {@link #pollTimeBudget}
+	 *
+	 * @return value of {@link #pollTimeBudget}
+	 */
+	public String getPollTimeBudget() {
+		return pollTimeBudget;
+	}
+
+	/**
+	 * Sets {@link #pollTimeBudget} value
+	 *
+	 * @param pollTimeBudget new value of {@link #pollTimeBudget}
+	 */
+	public void setPollTimeBudget(String pollTimeBudget) {
+		this.pollTimeBudget = pollTimeBudget;
+	}
+
+	/**
+	 * Retrieves {@link #latencyMetrics}
+	 *
+	 * @return value of {@link #latencyMetrics}
+	 */
+	public String getLatencyMetrics() {
+		return latencyMetrics;
+	}
+
+	/**
+	 * Sets {@link #latencyMetrics} value
+	 *
+	 * @param latencyMetrics new value of {@link #latencyMetrics}
+	 */
+	public void setLatencyMetrics(String latencyMetrics) {
+		this.latencyMetrics = latencyMetrics;
+	}
+
+	/**
+	 * Retrieves {@link #monitoredGroups}
+	 *
+	 * @return value of {@link #monitoredGroups}
+	 */
+	public String getMonitoredGroups() {
+		return monitoredGroups;
+	}
+
+	/**
+	 * Sets {@link #monitoredGroups} value
+	 *
+	 * @param monitoredGroups new value of {@link #monitoredGroups}
+	 */
+	public void setMonitoredGroups(String monitoredGroups) {
+		this.monitoredGroups = monitoredGroups;
+	}
+
+	/**
+	 * Retrieves {@link #warmStartDirectory}
+	 *
+	 * @return value of {@link #warmStartDirectory}
+	 */
+	public String getWarmStartDirectory() {
+		return warmStartDirectory;
+	}
+
+	/**
+	 * Sets {@link #warmStartDirectory} value
+	 *
+	 * @param warmStartDirectory new value of {@link #warmStartDirectory}
+	 */
+	public void setWarmStartDirectory(String warmStartDirectory) {
+		this.warmStartDirectory = warmStartDirectory;
+	}
+
+	/**
+	 * DevicePollingWorker refreshes the device state on its own schedule,
+	 * so {@link #getMultipleStatistics()} only returns the latest completed snapshot
+	 */
+	class DevicePollingWorker implements Runnable {
+
+		private volatile boolean inProgress = true;
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public void run() {
+			while (inProgress) {
+				long startCycle = System.currentTimeMillis();
+				if (startCycle < validRetrieveStatisticsTimestamp) {
+					reentrantLock.lock();
+					try {
+						// the adapter may have been destroyed while the worker was waiting for the lock
+						if (!inProgress) {
+							return;
+						}
+						refreshStatistics();
+						latestPollingError = null;
+					} catch (Exception e) {
+						logger.error(String.format("Error when polling device %s", host), e);
+						latestPollingError = e;
+					} finally {
+						reentrantLock.unlock();
+					}
+				}
+				long waitingTime = Math.max(getPollingIntervalInMillis() - (System.currentTimeMillis() - startCycle), VaddioNanoConstant.MIN_WAITING_TIME);
+				long endOfWaiting = System.currentTimeMillis() + waitingTime;
+				try {
+					for (long remaining = waitingTime; remaining > 0 && inProgress; remaining = endOfWaiting - System.currentTimeMillis()) {
+						TimeUnit.MILLISECONDS.sleep(Math.min(remaining, VaddioNanoConstant.KEEPALIVE_INTERVAL));
+						keepSessionAlive();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+
+		/**
+		 * Stop the polling worker
+		 */
+		public void stop() {
+			inProgress = false;
+		}
+	}
+
 	/**
 	 * Constructor for VaddioBridgeNanoCommunicator class
 	 */
@@ -188,39 +663,28 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 
 	/**
 	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Return the latest snapshot completed by {@link DevicePollingWorker}, the device is polled inline only for the first call
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
-		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
-		List<AdvancedControllableProperty> advancedControllableProperty = new ArrayList<>();
-		Map<String, String> stats = new HashMap<>();
-		Map<String, String> controlStats = new HashMap<>();
-		reentrantLock.lock();
-		try {
-			if (!isEmergencyDelivery) {
-				convertConfigManagement();
-				retrieveMonitoring();
-				if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() == null && !isNextPollingInterval || !isConfigManagement) {
-					populateMonitoringAndControlling(stats, controlStats, advancedControllableProperty);
-					populateAudioInput(controlStats, advancedControllableProperty);
-					populateOutputControl(controlStats, advancedControllableProperty, new ArrayList<>());
-					populateCrosspointGain(stats, controlStats, advancedControllableProperty);
-					if (isConfigManagement) {
-						stats.putAll(controlStats);
-						extendedStatistics.setControllableProperties(advancedControllableProperty);
-					}
-					extendedStatistics.setStatistics(stats);
-				}
-				if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && !localExtendedStatistics.getStatistics().isEmpty()) {
-					updateLocalExtendedStatisticsByPolingInterval(extendedStatistics, stats, controlStats, advancedControllableProperty);
+		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + VaddioNanoConstant.RETRIEVE_STATISTICS_TIMEOUT;
+		if (localExtendedStatistics.get() == null) {
+			reentrantLock.lock();
+			try {
+				if (localExtendedStatistics.get() == null) {
+					refreshStatistics();
 				}
-				localExtendedStatistics = extendedStatistics;
+			} finally {
+				reentrantLock.unlock();
 			}
-			isEmergencyDelivery = false;
-		} finally {
-			reentrantLock.unlock();
 		}
-		return Collections.singletonList(localExtendedStatistics);
+		Exception error = latestPollingError;
+		if (error != null) {
+			throw error;
+		}
+		return Collections.singletonList(localExtendedStatistics.get());
 	}
 
 	/**
@@ -245,53 +709,43 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws Exception {
+		String property = controllableProperty.getProperty();
+		ControlTarget target = ControlTarget.resolve(property);
+		if (target == null) {
+			throw new IllegalArgumentException(String.format("Can't control %s with %s value.", property, controllableProperty.getValue()));
+		}
+		pendingControlValues.put(property, String.valueOf(controllableProperty.getValue()));
 		reentrantLock.lock();
 		try {
-			this.timeout = controlSSHTimeout;
-			if (localExtendedStatistics == null || localExtendedStatistics.getStatistics() == null) {
+			String value = pendingControlValues.remove(property);
+			if (value == null) {
+				logger.debug(String.format("Control of %s is superseded by a later value that has been sent", property));
 				return;
 			}
-			isEmergencyDelivery = true;
-			Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-			List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
-			String value = String.valueOf(controllableProperty.getValue());
-			String property = controllableProperty.getProperty();
-			String keyName = property;
-			String groupName = property;
-
-			boolean isCrosspointControl = handleCrosspointGainControl(stats, advancedControllableProperties, value, property);
-			if (isCrosspointControl) {
+			this.timeout = controlSSHTimeout;
+			ExtendedStatistics snapshot = localExtendedStatistics.get();
+			if (snapshot == null || snapshot.getStatistics() == null) {
 				return;
 			}
-			if (property.contains(VaddioNanoConstant.HASH)) {
-				String[] group = property.split(VaddioNanoConstant.HASH);
-				groupName = group[0];
-				keyName = group[1];
-			}
-			String group = AudioInput.getValueByName(groupName);
-			if (StringUtils.isNullOrEmpty(group)) {
-				group = EnumTypeHandler.getCommandByValue(AudioCrosspoint.class, groupName);
-				if (StringUtils.isNotNullOrEmpty(group)) {
-					group = group.replace("audio ", VaddioNanoConstant.EMPTY);
-				}
-			}
-			PropertiesControlList propertyControl = PropertiesControlList.getControlGroupNameByValue(keyName);
-			switch (propertyControl) {
+			isEmergencyDelivery = true;
+			Map<String, String> stats = new HashMap<>(snapshot.getStatistics());
+			ControllablePropertyRegistry advancedControllableProperties = new ControllablePropertyRegistry(snapshot.getControllableProperties());
+			switch (target.getType()) {
 				case VIDEO_MUTE:
 					String videoMute = VaddioNanoConstant.OFF;
 					if (String.valueOf(VaddioNanoConstant.NUMBER_ONE).equalsIgnoreCase(value)) {
 						videoMute = VaddioNanoConstant.ON;
 					}
-					String videoMuteCommand = VaddioCommand.VIDEO_COMMAND;
-					sendCommandToControlDevice(videoMuteCommand, videoMute, groupName);
+					sendCommandToControlDevice(target.getCommand(), videoMute, target.getName());
+					deviceState.setVideoMute(VaddioNanoConstant.ON.equals(videoMute));
 					break;
 				case AUDIO_MUTE:
 					String audioMute = VaddioNanoConstant.OFF;
 					if (String.valueOf(VaddioNanoConstant.NUMBER_ONE).equalsIgnoreCase(value)) {
 						audioMute = VaddioNanoConstant.ON;
 					}
-					String audioMuteControl = VaddioCommand.AUDIO_COMMAND;
-					sendCommandToControlDevice(audioMuteControl, audioMute, groupName);
+					sendCommandToControlDevice(target.getCommand(), audioMute, target.getName());
+					deviceState.setMasterMute(VaddioNanoConstant.ON.equals(audioMute));
 					updateMasterMuteControl(stats, advancedControllableProperties, audioMute);
 					break;
 				case MUTE:
@@ -299,21 +753,20 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 					if (String.valueOf(VaddioNanoConstant.NUMBER_ONE).equalsIgnoreCase(value)) {
 						muteValue = VaddioNanoConstant.ON;
 					}
-					String muteCommand = VaddioNanoConstant.AUDIO_COMMAND + group + VaddioNanoConstant.SPACE + VaddioNanoConstant.MUTE_CONTROL.trim() + VaddioNanoConstant.SPACE;
-					sendCommandToControlDevice(muteCommand, muteValue, group);
+					sendCommandToControlDevice(target.getCommand(), muteValue, target.getName());
+					deviceState.setMute(property, VaddioNanoConstant.ON.equals(muteValue));
 					break;
 				case VOLUME:
-					String volumeControl = VaddioNanoConstant.AUDIO_COMMAND + group + VaddioNanoConstant.SPACE + VaddioNanoConstant.VOLUME_CONTROL.trim() + VaddioNanoConstant.SET;
-					sendCommandToControlDevice(volumeControl, value, group);
-					stats.put(groupName + VaddioNanoConstant.HASH + VaddioNanoConstant.VOLUME_CURRENT_VALUE, String.valueOf((int) Float.parseFloat(value)));
+					sendCommandToControlDevice(target.getCommand(), value, target.getName());
+					deviceState.setVolume(property, Float.parseFloat(value));
+					stats.put(target.getCurrentValueKey(), String.valueOf((int) Float.parseFloat(value)));
 					break;
 				case STREAM_MODE:
 					String streamMode = VaddioNanoConstant.USB;
 					if (String.valueOf(VaddioNanoConstant.NUMBER_ONE).equalsIgnoreCase(value)) {
 						streamMode = VaddioNanoConstant.IP;
 					}
-					String streamingModeCommand = VaddioCommand.STREAMING_MODE;
-					sendCommandToControlStreamingMode(streamingModeCommand, streamMode, groupName);
+					sendCommandToControlStreamingMode(target.getCommand(), streamMode, target.getName());
 					sendCommandDetails(VaddioCommand.STREAM_MODE.getCommand(), VaddioCommand.STREAM_MODE.getName());
 					sendCommandDetails(VaddioCommand.STREAM_SETTINGS.getCommand(), VaddioCommand.STREAM_SETTINGS.getName());
 					String data =
@@ -326,14 +779,23 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 					stats.putAll(newStats);
 					break;
 				case SYSTEM_REBOOT:
-					controlSystemReboot(groupName, value);
+					controlSystemReboot(target.getName(), value);
 					Thread.sleep(3000);
 					break;
+				case CROSSPOINT_GAIN:
+					handleCrosspointGainControl(stats, target, value);
+					break;
+				case CROSSPOINT_ROUTE:
+					handleCrosspointRouteControl(target, value, property);
+					break;
 				default:
-					logger.debug("the property doesn't support" + keyName);
+					logger.debug("the property doesn't support" + property);
 					break;
 			}
+			cacheTimestamps.remove(property);
+			responseFingerprints.remove(property);
 			updateLocalControlValue(stats, advancedControllableProperties, property, value);
+			publishSnapshot(stats, advancedControllableProperties.toList());
 		} finally {
 			this.timeout = statisticsSSHTimeout;
 			reentrantLock.unlock();
@@ -341,17 +803,492 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Restore the latest state stored for the device and start the polling worker
+	 */
+	@Override
+	protected void internalInit() throws Exception {
+		super.internalInit();
+		restoreResponses();
+		validRetrieveStatisticsTimestamp = System.currentTimeMillis() + VaddioNanoConstant.RETRIEVE_STATISTICS_TIMEOUT;
+		devicePollingWorker = new DevicePollingWorker();
+		executorService = Executors.newSingleThreadExecutor();
+		executorService.submit(devicePollingWorker);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The polling worker is stopped first, then the state is cleared under {@link #reentrantLock} so a poll still in progress never sees it half cleared
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (devicePollingWorker != null) {
+			devicePollingWorker.stop();
+			devicePollingWorker = null;
+		}
+		if (executorService != null) {
+			executorService.shutdownNow();
+			try {
+				if (!executorService.awaitTermination(VaddioNanoConstant.WORKER_TERMINATION_TIMEOUT, TimeUnit.MILLISECONDS)) {
+					logger.warn(String.format("Polling worker of %s didn't stop in time, wait for its poll to release the lock", host));
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			executorService = null;
+		}
+		reentrantLock.lock();
+		try {
+			latestPollingError = null;
+			ExtendedStatistics snapshot = localExtendedStatistics.get();
+			if (snapshot != null && snapshot.getStatistics() != null && snapshot.getControllableProperties() != null) {
+				localExtendedStatistics.set(null);
+			}
+			isPipelineSupported = true;
+			isDeviceUnreachable = false;
+			firmwareCapabilities = null;
+			isFirmwareProbeRequired = true;
+			sessionStartTimestamp = 0;
+			lastActivityTimestamp = 0;
+			reconnectCount = 0;
+			commandLatencies.clear();
+			pollDuration = 0;
+			pollCommandCount = 0;
+			timeoutCount = 0;
+			connectFailureCount = 0;
+			nextConnectAttemptTimestamp = 0;
+			saveResponses();
+			responseStore = null;
+			latestResponses.clear();
+			isResponseStoreDirty = false;
+			pendingControlValues.clear();
+			failedMonitor.clear();
+			cacheKeyAndValue.clear();
+			deviceState.clear();
+			cacheTimestamps.clear();
+			fastRefreshGroups.clear();
+			monitoringPlanGroups.clear();
+			responseFingerprints.clear();
+			renderedResponses.clear();
+
+			super.internalDestroy();
+		} finally {
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Connection attempts are backed off exponentially after a failure, so a dead device fails fast instead of costing
+	 * a full SSH handshake timeout for every command
+	 */
+	@Override
+	protected void createChannel() throws Exception {
+		long now = System.currentTimeMillis();
+		if (now < nextConnectAttemptTimestamp) {
+			throw new ConnectException(String.format("Connection to %s is backed off for %s ms after %s failed attempts", host, nextConnectAttemptTimestamp - now, connectFailureCount));
+		}
+		try {
+			super.createChannel();
+		} catch (Exception e) {
+			connectFailureCount++;
+			long backoff = VaddioNanoConstant.MIN_RECONNECT_BACKOFF << Math.min(connectFailureCount - 1, 16);
+			nextConnectAttemptTimestamp = System.currentTimeMillis() + Math.min(backoff, VaddioNanoConstant.MAX_RECONNECT_BACKOFF);
+			throw e;
+		}
+		if (sessionStartTimestamp != 0) {
+			reconnectCount++;
+		}
+		connectFailureCount = 0;
+		nextConnectAttemptTimestamp = 0;
+		sessionStartTimestamp = System.currentTimeMillis();
+		lastActivityTimestamp = sessionStartTimestamp;
+		isFirmwareProbeRequired = true;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * Record the time of the latest command for the keepalive
+	 */
+	@Override
+	protected String internalSend(String command) throws Exception {
+		String response = super.internalSend(command);
+		lastActivityTimestamp = System.currentTimeMillis();
+		return response;
+	}
+
+	/**
+	 * Send an empty line on an idle session so it stays warm, a dead session is detected and reconnected
+	 * by the keepalive instead of the next poll or control. Nothing is sent while the lock is busy or the adapter isn't polled
+	 */
+	private void keepSessionAlive() {
+		long now = System.currentTimeMillis();
+		if (isDeviceUnreachable || now >= validRetrieveStatisticsTimestamp || now - lastActivityTimestamp < VaddioNanoConstant.KEEPALIVE_INTERVAL || !reentrantLock.tryLock()) {
+			return;
+		}
+		try {
+			this.timeout = controlSSHTimeout;
+			send(VaddioNanoConstant.CARRIAGE_RETURN);
+		} catch (Exception e) {
+			logger.debug(String.format("Keepalive of the session to %s failed", host), e);
+		} finally {
+			this.timeout = statisticsSSHTimeout;
+			reentrantLock.unlock();
+		}
+	}
+
+	/**
+	 * Probe the SSH port of the device, it costs one TCP handshake instead of a command timeout
+	 *
+	 * @return boolean true if the device accepts the connection
+	 */
+	private boolean isDeviceReachable() {
+		try (Socket socket = new Socket()) {
+			socket.connect(new InetSocketAddress(host, getPort()), controlSSHTimeout);
+			return true;
+		} catch (Exception e) {
+			logger.debug(String.format("Device %s is still unreachable: %s", host, e.getMessage()));
+			return false;
+		}
+	}
+
+	/**
+	 * Record a failed command, only an error response of the device counts toward the circuit breaker of the command.
+	 * Any other failure means the device stopped responding, so the rest of the poll is aborted and the device is probed instead
+	 *
+	 * @param command the command is command which failed
+	 * @param ex the ex is exception of the command
+	 */
+	private void handleCommandFailure(String command, Exception ex) {
+		if (ex instanceof CommandFailureException) {
+			recordCommandFailure(command);
+			return;
+		}
+		if (!isDeviceUnreachable) {
+			logger.warn(String.format("Device %s stopped responding, abort the rest of the poll", host));
+			isDeviceUnreachable = true;
+		}
+	}
+
+	/**
+	 * Record a failure in the circuit breaker of the command
+	 *
+	 * @param command the command is command which was rejected by the device
+	 */
+	private void recordCommandFailure(String command) {
+		failedMonitor.computeIfAbsent(command.trim(), key -> new CommandCircuitBreaker()).recordFailure(System.currentTimeMillis());
+	}
+
+	/**
+	 * Check the circuit breaker of the command
+	 *
+	 * @param command the command is command to get data
+	 * @return boolean true if the breaker of the command is not open
+	 */
+	private boolean isCommandAllowed(String command) {
+		CommandCircuitBreaker circuitBreaker = failedMonitor.get(command.trim());
+		return circuitBreaker == null || circuitBreaker.allowRequest(System.currentTimeMillis());
+	}
+
+	/**
+	 * Cache the response of the command, a response with a syntax error is recorded as a failure of the command instead
+	 *
+	 * @param command the command is command which was sent
+	 * @param group the group is group name of properties
+	 * @param response the response is response received from device
+	 */
+	private void handleCommandResponse(String command, String group, String response) {
+		if (response.contains(VaddioNanoConstant.ERROR_RESPONSE)) {
+			recordCommandFailure(command);
+			if (firmwareCapabilities != null) {
+				logger.info(String.format("Command %s is rejected by firmware %s, it won't be sent until it's probed again", command.trim(), firmwareCapabilities.getFirmwareVersion()));
+				firmwareCapabilities.markUnsupported(command, System.currentTimeMillis());
+			}
+			return;
+		}
+		failedMonitor.remove(command.trim());
+		cacheResponse(group, response);
+	}
+
+	/**
+	 * Populate the state of the circuit breaker of every failed command
+	 *
+	 * @param stats the stats are list of statistics
+	 */
+	private void populateCircuitBreakerStatistics(Map<String, String> stats) {
+		String group = VaddioNanoConstant.COMMAND_CIRCUIT_BREAKER + VaddioNanoConstant.HASH;
+		stats.keySet().removeIf(key -> key.startsWith(group));
+		for (Map.Entry<String, CommandCircuitBreaker> entry : failedMonitor.entrySet()) {
+			stats.put(group + entry.getKey(), entry.getValue().getState().getName());
+		}
+	}
+
+	/**
+	 * Populate session statistics if {@link #latencyMetrics} is enabled
+	 *
+	 * @param stats the stats are list of statistics
+	 */
+	private void populateSessionStatistics(Map<String, String> stats) {
+		if (!isLatencyMetricsEnabled()) {
+			return;
+		}
+		String group = VaddioNanoConstant.ADAPTER_METRICS + VaddioNanoConstant.HASH;
+		long sessionAge = sessionStartTimestamp == 0 || !isChannelConnected() ? 0 : (System.currentTimeMillis() - sessionStartTimestamp) / 1000;
+		stats.put(group + VaddioNanoConstant.SESSION_AGE, String.valueOf(sessionAge));
+		stats.put(group + VaddioNanoConstant.SESSION_RECONNECT_COUNT, String.valueOf(reconnectCount));
+		if (firmwareCapabilities != null) {
+			stats.put(group + VaddioNanoConstant.UNSUPPORTED_COMMAND_COUNT, String.valueOf(firmwareCapabilities.getUnsupportedCommandCount(System.currentTimeMillis())));
+		}
+	}
+
+	/**
+	 * Populate latency statistics if {@link #latencyMetrics} is enabled, percentiles are published only for the command families which were sent
+	 *
+	 * @param stats the stats are list of statistics
+	 */
+	private void populateLatencyStatistics(Map<String, String> stats) {
+		if (!isLatencyMetricsEnabled()) {
+			return;
+		}
+		String group = VaddioNanoConstant.ADAPTER_METRICS + VaddioNanoConstant.HASH;
+		stats.put(group + VaddioNanoConstant.POLL_DURATION, String.valueOf(pollDuration));
+		stats.put(group + VaddioNanoConstant.COMMANDS_PER_POLL, String.valueOf(pollCommandCount));
+		stats.put(group + VaddioNanoConstant.COMMAND_TIMEOUT_COUNT, String.valueOf(timeoutCount));
+		for (Map.Entry<CommandFamily, LatencyHistogram> entry : commandLatencies.entrySet()) {
+			LatencyHistogram latencyHistogram = entry.getValue();
+			String name = group + entry.getKey().getName();
+			stats.put(name + VaddioNanoConstant.LATENCY_P50, formatLatency(latencyHistogram.getValueAtPercentile(50)));
+			stats.put(name + VaddioNanoConstant.LATENCY_P95, formatLatency(latencyHistogram.getValueAtPercentile(95)));
+			stats.put(name + VaddioNanoConstant.LATENCY_P99, formatLatency(latencyHistogram.getValueAtPercentile(99)));
+		}
+	}
+
+	/**
+	 * Check if the AdapterMetrics group is published
+	 *
+	 * @return boolean (true/false)
+	 */
+	private boolean isLatencyMetricsEnabled() {
+		return StringUtils.isNotNullOrEmpty(latencyMetrics) && VaddioNanoConstant.TRUE.equalsIgnoreCase(latencyMetrics.trim());
+	}
+
+	/**
+	 * Format the latency in milliseconds
+	 *
+	 * @param latency the latency is latency in microseconds
+	 * @return String latency in milliseconds with one decimal
+	 */
+	private String formatLatency(long latency) {
+		return String.format(Locale.ROOT, "%.1f", latency / 1000.0);
+	}
+
+	/**
+	 * Record the latency of a command sent to the device
+	 *
+	 * @param commandFamily the commandFamily is family of the command
+	 * @param startTime the startTime is {@link System#nanoTime()} when the command was sent
+	 * @param endTime the endTime is {@link System#nanoTime()} when the response was received
+	 */
+	private void recordLatency(CommandFamily commandFamily, long startTime, long endTime) {
+		commandLatencies.computeIfAbsent(commandFamily, key -> new LatencyHistogram()).record(TimeUnit.NANOSECONDS.toMicros(endTime - startTime));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 *
+	 * The output is filtered from ANSI escape sequences into {@link #responseBuffer} as it arrives, and the response is checked
+	 * with {@link #doneReading(String, String)} only once it ends with a terminator of the success or error list.
+	 * While a pipelined batch is in flight, reading is done only when every command of the batch returned its prompt
+	 */
+	@Override
+	protected String read(String command, InputStream in) throws Exception {
+		if (command == null) {
+			return super.read(command, in);
+		}
+		long startTime = System.currentTimeMillis();
+		byte[] buffer = new byte[getBufferLength()];
+		responseBuffer.reset();
+		while (true) {
+			int available = in.available();
+			if (available > 0) {
+				int count = in.read(buffer, 0, Math.min(available, buffer.length));
+				if (count < 0) {
+					throw new IOException("Connection was forcibly closed");
+				}
+				int promptCount = responseBuffer.getPromptCount();
+				responseBuffer.write(buffer, 0, count);
+				if (pipelinedCommandCount > 1) {
+					long now = System.nanoTime();
+					for (int i = promptCount; i < Math.min(responseBuffer.getPromptCount(), promptTimestamps.length); i++) {
+						promptTimestamps[i] = now;
+					}
+				}
+				if (isResponseComplete(command)) {
+					return responseBuffer.toString();
+				}
+			} else {
+				Thread.sleep(VaddioNanoConstant.READ_POLL_INTERVAL);
+			}
+			if (System.currentTimeMillis() - startTime >= this.timeout) {
+				timeoutCount++;
+				throw new IOException(String.format("The read operation timed out. Command sent was: %s Data read so far: %s", command, responseBuffer));
+			}
+		}
+	}
+
+	/**
+	 * Check if the response in {@link #responseBuffer} is complete
+	 *
+	 * @param command the command is command which was sent
+	 * @return boolean (true/false)
+	 * @throws CommandFailureException if the response ends with a string of the error list
+	 */
+	private boolean isResponseComplete(String command) throws CommandFailureException {
+		if (pipelinedCommandCount > 1) {
+			return responseBuffer.getPromptCount() >= pipelinedCommandCount;
+		}
+		for (String terminator : getCommandSuccessList()) {
+			if (responseBuffer.endsWith(terminator)) {
+				return doneReading(command, responseBuffer.toString());
+			}
+		}
+		for (String terminator : getCommandErrorList()) {
+			if (responseBuffer.endsWith(terminator)) {
+				return doneReading(command, responseBuffer.toString());
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieve the device data and publish a new ExtendedStatistics snapshot, the caller must hold {@link #reentrantLock}
+	 *
+	 * @throws Exception if the device data can't be retrieved
+	 */
+	private void refreshStatistics() throws Exception {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		ControllablePropertyRegistry advancedControllableProperty = new ControllablePropertyRegistry();
+		Map<String, String> stats = new HashMap<>();
+		Map<String, String> controlStats = new HashMap<>();
+		// a control served while this poll yields the lock raises the flag again, so the next poll is skipped instead
+		boolean emergencyDelivery = isEmergencyDelivery;
+		isEmergencyDelivery = false;
+		if (isDeviceUnreachable && !isDeviceReachable()) {
+			ExtendedStatistics snapshot = localExtendedStatistics.get();
+			if (snapshot != null && snapshot.getStatistics() != null) {
+				Map<String, String> staleStats = new HashMap<>(snapshot.getStatistics());
+				staleStats.put(VaddioNanoConstant.POLL_STATUS + VaddioNanoConstant.HASH + VaddioNanoConstant.STALE, VaddioNanoConstant.TRUE);
+				staleStats.put(VaddioNanoConstant.POLL_STATUS + VaddioNanoConstant.HASH + VaddioNanoConstant.STALE_GROUPS, joinStaleGroups(monitoringPlanGroups));
+				publishSnapshot(staleStats, snapshot.getControllableProperties());
+			}
+			return;
+		}
+		if (!emergencyDelivery) {
+			isDeviceUnreachable = false;
+			convertConfigManagement();
+			convertRefreshIntervals();
+			long pollTimeBudgetInMillis = getPollTimeBudgetInMillis();
+			pollDeadline = pollTimeBudgetInMillis > 0 ? System.currentTimeMillis() + pollTimeBudgetInMillis : 0;
+			List<String> staleGroups;
+			long pollStartTime = System.currentTimeMillis();
+			pollCommandCount = 0;
+			try {
+				staleGroups = retrieveMonitoring();
+			} finally {
+				pollDeadline = 0;
+				pollDuration = System.currentTimeMillis() - pollStartTime;
+			}
+			populateStatistics(extendedStatistics, stats, controlStats, advancedControllableProperty);
+			populateSessionStatistics(stats);
+			populateLatencyStatistics(stats);
+			populateCircuitBreakerStatistics(stats);
+			stats.put(VaddioNanoConstant.POLL_STATUS + VaddioNanoConstant.HASH + VaddioNanoConstant.STALE, isDeviceUnreachable ? VaddioNanoConstant.TRUE : VaddioNanoConstant.FALSE);
+			stats.put(VaddioNanoConstant.POLL_STATUS + VaddioNanoConstant.HASH + VaddioNanoConstant.STALE_GROUPS, joinStaleGroups(staleGroups));
+			localExtendedStatistics.set(extendedStatistics);
+			saveResponses();
+		}
+	}
+
+	/**
+	 * Populate the statistics and controllable properties of every group from the cached responses,
+	 * a group which hasn't been retrieved yet is populated with its default values
+	 *
+	 * @param extendedStatistics are ExtendedStatistics instance
+	 * @param stats the stats are list of Statistics
+	 * @param controlStats the controlStats are list of Statistics
+	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
+	 */
+	private void populateStatistics(ExtendedStatistics extendedStatistics, Map<String, String> stats, Map<String, String> controlStats,
+			ControllablePropertyRegistry advancedControllableProperty) {
+		populateMonitoringAndControlling(stats, controlStats, advancedControllableProperty);
+		populateAudioInput(controlStats, advancedControllableProperty);
+		populateOutputControl(controlStats, advancedControllableProperty);
+		populateCrosspointGain(stats, controlStats, advancedControllableProperty);
+		if (isConfigManagement) {
+			stats.putAll(controlStats);
+			extendedStatistics.setControllableProperties(advancedControllableProperty.toList());
+		}
+		extendedStatistics.setStatistics(stats);
+	}
+
+	/**
+	 * Restore the responses stored for the device and publish a stale snapshot built from them, so the first
+	 * {@link #getMultipleStatistics()} returns without waiting for the device while the polling worker validates the state.
+	 * The restored responses are expired, every command is sent again on the first poll
 	 */
-	@Override
-	protected void internalDestroy() {
-		if (localExtendedStatistics != null && localExtendedStatistics.getStatistics() != null && localExtendedStatistics.getControllableProperties() != null) {
-			localExtendedStatistics = null;
+	private void restoreResponses() {
+		if (StringUtils.isNullOrEmpty(warmStartDirectory)) {
+			return;
+		}
+		responseStore = new ResponseStore(warmStartDirectory.trim(), host);
+		Map<String, String> responses;
+		try {
+			responses = responseStore.load();
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to restore the state of %s from %s", host, warmStartDirectory), e);
+			return;
+		}
+		for (Map.Entry<String, String> entry : responses.entrySet()) {
+			cacheResponse(entry.getKey(), entry.getValue());
+		}
+		cacheTimestamps.clear();
+		isResponseStoreDirty = false;
+		convertConfigManagement();
+		for (VaddioCommand command : VaddioCommand.values()) {
+			if (command.isMonitoring() && monitoringPlan.isMonitored(command) && !cacheKeyAndValue.containsKey(command.getName())) {
+				return;
+			}
 		}
-		isNextPollingInterval = false;
-		cacheKeyAndValue.clear();
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		populateStatistics(extendedStatistics, new HashMap<>(), new HashMap<>(), new ControllablePropertyRegistry());
+		extendedStatistics.getStatistics().put(VaddioNanoConstant.POLL_STATUS + VaddioNanoConstant.HASH + VaddioNanoConstant.STALE, VaddioNanoConstant.TRUE);
+		extendedStatistics.getStatistics().put(VaddioNanoConstant.POLL_STATUS + VaddioNanoConstant.HASH + VaddioNanoConstant.STALE_GROUPS, joinStaleGroups(responses.keySet()));
+		localExtendedStatistics.set(extendedStatistics);
+		logger.info(String.format("Restored the state of %s from %s", host, warmStartDirectory));
+	}
 
-		super.internalDestroy();
+	/**
+	 * Write the latest responses to {@link #responseStore} if any of them has changed since it was written
+	 */
+	private void saveResponses() {
+		if (responseStore == null || !isResponseStoreDirty) {
+			return;
+		}
+		try {
+			responseStore.save(latestResponses);
+			isResponseStoreDirty = false;
+		} catch (Exception e) {
+			logger.warn(String.format("Unable to store the state of %s in %s", host, warmStartDirectory), e);
+		}
 	}
 
 	/**
@@ -362,101 +1299,83 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param muteValue the muteValue is value of mute
 	 * @throws FailedLoginException if login error
 	 */
-	private void updateMasterMuteControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String muteValue) throws FailedLoginException {
-		for (AudioCrosspoint audioCrosspoint : AudioCrosspoint.values()) {
-			String key = audioCrosspoint.getName() + VaddioNanoConstant.HASH + VaddioNanoConstant.MUTE;
-			if (VaddioNanoConstant.ON.equalsIgnoreCase(muteValue)) {
+	private void updateMasterMuteControl(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperties, String muteValue) throws FailedLoginException {
+		if (VaddioNanoConstant.ON.equalsIgnoreCase(muteValue)) {
+			for (AudioCrosspoint audioCrosspoint : AudioCrosspoint.values()) {
+				if (!monitoringPlan.isMuteMonitored(audioCrosspoint)) {
+					continue;
+				}
+				String key = PropertyKeyTable.outputMuteKey(audioCrosspoint);
 				stats.remove(key);
 				stats.put(key, VaddioNanoConstant.ON);
-				advancedControllableProperties.removeIf(item -> item.getName().equalsIgnoreCase(key));
-				continue;
+				advancedControllableProperties.remove(key);
+			}
+			return;
+		}
+		List<Map.Entry<String, String>> batch = new ArrayList<>();
+		for (AudioCrosspoint audioCrosspoint : AudioCrosspoint.values()) {
+			if (monitoringPlan.isMuteMonitored(audioCrosspoint)) {
+				batch.add(new AbstractMap.SimpleEntry<>(PropertyKeyTable.outputMuteKey(audioCrosspoint), PropertyKeyTable.outputMuteCommand(audioCrosspoint)));
+			}
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		if (isPipelineSupported) {
+			sendPipelinedCommands(batch);
+		} else {
+			for (Map.Entry<String, String> entry : batch) {
+				sendCommandDetails(entry.getValue(), entry.getKey());
+			}
+		}
+		for (AudioCrosspoint audioCrosspoint : AudioCrosspoint.values()) {
+			if (monitoringPlan.isMuteMonitored(audioCrosspoint)) {
+				populateMuteControl(stats, advancedControllableProperties, PropertyKeyTable.outputMuteKey(audioCrosspoint), deviceState.getOutputMute(audioCrosspoint));
 			}
-			String group = audioCrosspoint.getName() + VaddioNanoConstant.HASH;
-			String commandItem = audioCrosspoint.getCommand();
-			sendCommandDetails((commandItem + VaddioNanoConstant.SPACE + VaddioNanoConstant.MUTE + VaddioNanoConstant.GET).toLowerCase(Locale.ROOT), group + VaddioNanoConstant.MUTE);
-			populateMuteControl(stats, advancedControllableProperties, audioCrosspoint.getName() + VaddioNanoConstant.HASH + VaddioNanoConstant.MUTE);
 		}
 	}
 
 	/**
-	 * Update localExtendedStatistics by current polling interval
+	 * Handles crosspoint gain control detail
 	 *
-	 * @param extendedStatistics are ExtendedStatistics instance
 	 * @param stats the stats are list of Statistics
-	 * @param controlStats the controlStats are list of Statistics
-	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
+	 * @param target the target is ControlTarget instance of the property
+	 * @param value the value is value to send the command
 	 */
-	private void updateLocalExtendedStatisticsByPolingInterval(ExtendedStatistics extendedStatistics, Map<String, String> stats, Map<String, String> controlStats,
-			List<AdvancedControllableProperty> advancedControllableProperty) {
-		if (!isConfigManagement) {
-			return;
-		}
-		List<AdvancedControllableProperty> newAdvancedControllableProperty = localExtendedStatistics.getControllableProperties();
-		Map<String, String> newStats = localExtendedStatistics.getStatistics();
-		if (!isNextPollingInterval) {
-			populateCrosspointGain(stats, controlStats, advancedControllableProperty);
-			newStats = newStats.entrySet().stream()
-					.filter(entry -> !entry.getKey().startsWith(VaddioNanoConstant.CROSSPOINT_GAIN))
-					.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-		} else {
-			populateMonitoringAndControlling(stats, controlStats, advancedControllableProperty);
-			populateAudioInput(stats, advancedControllableProperty);
-			populateOutputControl(stats, advancedControllableProperty, newAdvancedControllableProperty);
-			newStats = newStats.entrySet().stream()
-					.filter(entry -> entry.getKey().startsWith(VaddioNanoConstant.CROSSPOINT_GAIN))
-					.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-		}
-		stats.putAll(controlStats);
-		newAdvancedControllableProperty.removeIf(item -> advancedControllableProperty.stream().anyMatch(it -> it.getName().equals(item.getName())));
-		stats.putAll(newStats);
-		newAdvancedControllableProperty.addAll(advancedControllableProperty);
-		extendedStatistics.setStatistics(stats);
-		extendedStatistics.setControllableProperties(newAdvancedControllableProperty);
+	private void handleCrosspointGainControl(Map<String, String> stats, ControlTarget target, String value) {
+		int gain = (int) Float.parseFloat(value);
+		sendCommandToControlDevice(target.getCommand(), String.valueOf(gain), target.getName());
+		deviceState.setGain(target.getCrosspoint(), target.getInput(), gain);
+		stats.put(target.getCurrentValueKey(), String.valueOf(gain));
 	}
 
 	/**
-	 * Handles crosspoint gain control detail
+	 * Handles crosspoint route control detail
 	 *
-	 * @param stats the stats are list of Statistics
-	 * @param advancedControllableProperties the advancedControllableProperty are AdvancedControllableProperty instance
+	 * @param target the target is ControlTarget instance of the property
 	 * @param value the value is value to send the command
 	 * @param property the property  is name of command
-	 * @return boolean (true/false)
+	 * @throws FailedLoginException if authentication fails
 	 */
-	private boolean handleCrosspointGainControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String value, String property) throws FailedLoginException {
-		if (!property.contains(VaddioNanoConstant.CROSSPOINT_GAIN)) {
-			return false;
-		}
-
-		String[] group = property.split(VaddioNanoConstant.HASH);
-		String groupName = group[0].replace(VaddioNanoConstant.CROSSPOINT_GAIN, VaddioNanoConstant.EMPTY);
-		String keyName = group[1].replace(VaddioNanoConstant.GAIN, VaddioNanoConstant.EMPTY);
-
-		if (keyName.contains(VaddioNanoConstant.ROUTES)) {
-			keyName = group[1].replace(VaddioNanoConstant.ROUTES, VaddioNanoConstant.EMPTY);
-			sendCommandDetails(EnumTypeHandler.getCommandByValue(AudioCrosspoint.class, groupName) + VaddioNanoConstant.ROUTES_COMMAND,
-					VaddioNanoConstant.CROSSPOINT_GAIN + groupName + VaddioNanoConstant.HASH + VaddioNanoConstant.ENABLED_ROUTES);
-
-			String key = VaddioNanoConstant.CROSSPOINT_GAIN + groupName + VaddioNanoConstant.HASH + VaddioNanoConstant.ENABLED_ROUTES;
-			String data = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(key)) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(key);
-			data = parseResponseByCommandGain(data).replace("]", VaddioNanoConstant.EMPTY).trim();
-
-			String currentValue = AudioInput.getValueByName(keyName).trim();
-			if (String.valueOf(VaddioNanoConstant.NUMBER_ONE).equalsIgnoreCase(value) && !data.contains(currentValue)) {
-				data = data + (VaddioNanoConstant.SPACE + currentValue);
+	private void handleCrosspointRouteControl(ControlTarget target, String value, String property) throws FailedLoginException {
+		AudioCrosspoint audioCrosspoint = target.getCrosspoint();
+		if (!deviceState.hasRoutes(audioCrosspoint)) {
+			sendCommandDetails(PropertyKeyTable.routesGetCommand(audioCrosspoint), PropertyKeyTable.enabledRoutesKey(audioCrosspoint));
+			if (!deviceState.hasRoutes(audioCrosspoint)) {
+				throw new IllegalArgumentException(String.format("Can't control %s with %s value, the enabled routes are unavailable", property, value));
 			}
-			if (String.valueOf(VaddioNanoConstant.ZERO).equalsIgnoreCase(value)) {
-				data = data.replace(currentValue, VaddioNanoConstant.EMPTY);
-			}
-			String command = EnumTypeHandler.getCommandByValue(AudioCrosspoint.class, groupName) + VaddioNanoConstant.ROUTES_CONTROL;
-			sendCommandToControlDevice(command, data.trim(), group[1]);
-		} else {
-			String command = EnumTypeHandler.getCommandByValue(AudioCrosspoint.class, groupName) + VaddioNanoConstant.GAIN_COMMAND + AudioInput.getValueByName(keyName) + VaddioNanoConstant.SET;
-			sendCommandToControlDevice(command, String.valueOf((int) Float.parseFloat(value)), group[1]);
-			stats.put(group[0] + VaddioNanoConstant.HASH + keyName + VaddioNanoConstant.GAIN_CURRENT_VALUE, String.valueOf((int) Float.parseFloat(value)));
 		}
-		updateLocalControlValue(stats, advancedControllableProperties, property, value);
-		return true;
+		int routeMask = deviceState.getRoutes(audioCrosspoint);
+		int routeBit = DeviceState.routeBit(target.getInput());
+		if (String.valueOf(VaddioNanoConstant.NUMBER_ONE).equalsIgnoreCase(value)) {
+			routeMask |= routeBit;
+		}
+		if (String.valueOf(VaddioNanoConstant.ZERO).equalsIgnoreCase(value)) {
+			routeMask &= ~routeBit;
+		}
+		sendCommandToControlDevice(target.getCommand(), DeviceState.toRouteList(routeMask), target.getName());
+		deviceState.setRoutes(audioCrosspoint, routeMask);
+		responseFingerprints.remove(PropertyKeyTable.enabledRoutesKey(audioCrosspoint));
 	}
 
 	/**
@@ -469,11 +1388,25 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param name of the control property
 	 * @param value to set to the control property
 	 */
-	private void updateLocalControlValue(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String name, String value) {
+	private void updateLocalControlValue(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperties, String name, String value) {
 		stats.put(name, value);
-		advancedControllableProperties.stream().filter(advancedControllableProperty ->
-				name.equals(advancedControllableProperty.getName())).findFirst().ifPresent(advancedControllableProperty ->
-				advancedControllableProperty.setValue(value));
+		AdvancedControllableProperty advancedControllableProperty = advancedControllableProperties.get(name);
+		if (advancedControllableProperty != null) {
+			advancedControllableProperties.upsert(new AdvancedControllableProperty(name, new Date(), advancedControllableProperty.getType(), value));
+		}
+	}
+
+	/**
+	 * Publish a new snapshot of {@link #localExtendedStatistics}, the stats and controllable properties must not be modified afterwards
+	 *
+	 * @param stats the stats are list of Statistics
+	 * @param advancedControllableProperties the advancedControllableProperty are AdvancedControllableProperty instance
+	 */
+	private void publishSnapshot(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		ExtendedStatistics extendedStatistics = new ExtendedStatistics();
+		extendedStatistics.setStatistics(stats);
+		extendedStatistics.setControllableProperties(advancedControllableProperties);
+		localExtendedStatistics.set(extendedStatistics);
 	}
 
 	/**
@@ -486,7 +1419,9 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	private void sendCommandToControlDevice(String command, String value, String name) {
 		try {
 			command = (command.trim() + VaddioNanoConstant.SPACE + value).toLowerCase(Locale.ROOT);
+			long startTime = System.nanoTime();
 			String response = send(command.contains("\r") ? command : command.concat("\r"));
+			recordLatency(CommandFamily.of(command), startTime, System.nanoTime());
 
 			if (StringUtils.isNullOrEmpty(response) || response.contains(VaddioNanoConstant.ERROR_RESPONSE) || !response.contains(VaddioNanoConstant.OK)) {
 				if (response.contains(VaddioNanoConstant.ROUTE_MESSAGE)) {
@@ -547,10 +1482,8 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param controlStats the controlStats are list of Statistics
 	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
 	 */
-	private void populateAudioInput(Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperty) {
+	private void populateAudioInput(Map<String, String> controlStats, ControllablePropertyRegistry advancedControllableProperty) {
 		for (AudioInput audioInputEnum : AudioInput.values()) {
-			String key = audioInputEnum.getPropertyName() + VaddioNanoConstant.HASH + VaddioNanoConstant.VOLUME;
-			String data = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(key)) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(key);
 			switch (audioInputEnum) {
 				case HDMI_IN_RIGHT:
 				case HDMI_IN_LEFT:
@@ -558,9 +1491,13 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 				case LINE_IN_RIGHT:
 				case USB_PLAYBACK_LEFT:
 				case USB_PLAYBACK_RIGHT:
-					data = extractResponseValue(data, VaddioNanoConstant.VOLUME_REGEX).split(VaddioNanoConstant.SPACE)[0];
-					populateVolumeControl(controlStats, advancedControllableProperty, audioInputEnum.getPropertyName(), key, data);
-					populateMuteControl(controlStats, advancedControllableProperty, audioInputEnum.getPropertyName() + VaddioNanoConstant.HASH + VaddioNanoConstant.MUTE);
+					if (monitoringPlan.isVolumeMonitored(audioInputEnum)) {
+						populateVolumeControl(controlStats, advancedControllableProperty, PropertyKeyTable.inputVolumeKey(audioInputEnum),
+								PropertyKeyTable.inputVolumeCurrentValueKey(audioInputEnum), deviceState.getInputVolume(audioInputEnum));
+					}
+					if (monitoringPlan.isMuteMonitored(audioInputEnum)) {
+						populateMuteControl(controlStats, advancedControllableProperty, PropertyKeyTable.inputMuteKey(audioInputEnum), deviceState.getInputMute(audioInputEnum));
+					}
 					break;
 				default:
 					logger.debug(String.format("the command %s doesn't support", audioInputEnum.getName()));
@@ -575,21 +1512,16 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param stats the stats are list of Statistics
 	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
 	 * @param key the key is group of properties
+	 * @param mute the mute is mute state, null if unknown
 	 */
-	private void populateMuteControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperty, String key) {
-		String data = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(key)) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(key);
-
-		if (VaddioNanoConstant.NONE.equalsIgnoreCase(data)) {
+	private void populateMuteControl(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperty, String key, Boolean mute) {
+		if (mute == null) {
 			stats.put(key, VaddioNanoConstant.NONE);
 			return;
 		}
 		stats.put(key, VaddioNanoConstant.EMPTY);
-		int value = 0;
-		if (VaddioNanoConstant.ON.equalsIgnoreCase(extractResponseValue(data, VaddioNanoConstant.MUTE_REGEX))) {
-			value = 1;
-		}
-		AdvancedControllableProperty videoMuteControl = createSwitch(key, value, VaddioNanoConstant.OFF, VaddioNanoConstant.ON);
-		advancedControllableProperty.add(videoMuteControl);
+		AdvancedControllableProperty videoMuteControl = createSwitch(key, mute ? 1 : 0, VaddioNanoConstant.OFF, VaddioNanoConstant.ON);
+		advancedControllableProperty.upsert(videoMuteControl);
 	}
 
 	/**
@@ -597,19 +1529,17 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 *
 	 * @param stats the stats are list of Statistics
 	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
-	 * @param groupName the groupName is group of properties
 	 * @param key the key is key name
-	 * @param data the data is data of properties
+	 * @param volumeCurrentKey the volumeCurrentKey is key name of current volume value
+	 * @param volumeValue the volumeValue is volume in dB, null if unknown
 	 */
-	private void populateVolumeControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperty, String groupName, String key, String data) {
-		if (VaddioNanoConstant.NONE.equalsIgnoreCase(data)) {
+	private void populateVolumeControl(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperty, String key, String volumeCurrentKey, Float volumeValue) {
+		if (volumeValue == null) {
 			stats.put(key, VaddioNanoConstant.NONE);
 			return;
 		}
 		stats.put(key, VaddioNanoConstant.EMPTY);
-		float volumeValue = Float.parseFloat(data);
-		String volumeCurrentKey = groupName + VaddioNanoConstant.HASH + VaddioNanoConstant.VOLUME_CURRENT_VALUE;
-		stats.put(volumeCurrentKey, String.valueOf((int) Float.parseFloat(data)));
+		stats.put(volumeCurrentKey, String.valueOf(volumeValue.intValue()));
 
 		String minVolume = VaddioNanoConstant.MIN_VOLUME_LINE;
 		if (key.contains(AudioInput.LINE_IN_LEFT.getPropertyName()) || key.contains(AudioInput.LINE_IN_RIGHT.getPropertyName()) ||
@@ -618,7 +1548,7 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 		}
 		AdvancedControllableProperty volumeControl = createSlider(stats, key, minVolume, VaddioNanoConstant.MAX_VOLUME,
 				Float.valueOf(minVolume), Float.valueOf(VaddioNanoConstant.MAX_VOLUME), volumeValue);
-		advancedControllableProperty.add(volumeControl);
+		advancedControllableProperty.upsert(volumeControl);
 	}
 
 	/**
@@ -626,13 +1556,9 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 *
 	 * @param controlStats the controlStats are list of Statistics
 	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
-	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
 	 */
-	private void populateOutputControl(Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperty,
-			List<AdvancedControllableProperty> newAdvancedControllableProperty) {
+	private void populateOutputControl(Map<String, String> controlStats, ControllablePropertyRegistry advancedControllableProperty) {
 		for (AudioCrosspoint command : AudioCrosspoint.values()) {
-			String key = command.getName() + VaddioNanoConstant.HASH + VaddioNanoConstant.VOLUME;
-			String data = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(key)) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(key);
 			switch (command) {
 				case GAIN_HDMI_OUT_LEFT:
 				case GAIN_HDMI_OUT_RIGHT:
@@ -642,21 +1568,20 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 				case GAIN_LINE_OUT_RIGHT:
 				case GAIN_RECORD_OUT_LEFT:
 				case GAIN_RECORD_OUT_RIGHT:
-					data = extractResponseValue(data, VaddioNanoConstant.VOLUME_REGEX).split(VaddioNanoConstant.SPACE)[0];
-					populateVolumeControl(controlStats, advancedControllableProperty, command.getName(), key, data);
-					key = command.getName() + VaddioNanoConstant.HASH + VaddioNanoConstant.MUTE;
-					String audioKey = VaddioCommand.AUDIO_MUTE.getName();
-					String muteValue = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(audioKey)) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(audioKey);
-					if (VaddioNanoConstant.ON.equalsIgnoreCase(extractResponseValue(muteValue, VaddioNanoConstant.MUTE_REGEX))) {
+					if (monitoringPlan.isVolumeMonitored(command)) {
+						populateVolumeControl(controlStats, advancedControllableProperty, PropertyKeyTable.outputVolumeKey(command),
+								PropertyKeyTable.outputVolumeCurrentValueKey(command), deviceState.getOutputVolume(command));
+					}
+					if (!monitoringPlan.isMuteMonitored(command)) {
+						break;
+					}
+					String key = PropertyKeyTable.outputMuteKey(command);
+					if (Boolean.TRUE.equals(deviceState.getMasterMute())) {
 						controlStats.put(key, VaddioNanoConstant.ON);
-						String finalKey = key;
-						advancedControllableProperty.removeIf(item -> item.getName().equalsIgnoreCase(finalKey));
-						if (!newAdvancedControllableProperty.isEmpty()) {
-							newAdvancedControllableProperty.removeIf(item -> item.getName().equalsIgnoreCase(finalKey));
-						}
+						advancedControllableProperty.remove(key);
 						break;
 					}
-					populateMuteControl(controlStats, advancedControllableProperty, key);
+					populateMuteControl(controlStats, advancedControllableProperty, key, deviceState.getOutputMute(command));
 					break;
 				default:
 					logger.debug(String.format("the command %s doesn't support", command.getName()));
@@ -672,9 +1597,11 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param controlStats the controlStats are list of Statistics
 	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
 	 */
-	private void populateCrosspointGain(Map<String, String> stats, Map<String, String> controlStats, List<AdvancedControllableProperty> advancedControllableProperty) {
-		String key;
+	private void populateCrosspointGain(Map<String, String> stats, Map<String, String> controlStats, ControllablePropertyRegistry advancedControllableProperty) {
 		for (AudioCrosspoint command : AudioCrosspoint.values()) {
+			if (!monitoringPlan.isCrosspointMonitored(command)) {
+				continue;
+			}
 			switch (command) {
 				case GAIN_HDMI_OUT_LEFT:
 				case GAIN_HDMI_OUT_RIGHT:
@@ -684,7 +1611,6 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 				case GAIN_LINE_OUT_RIGHT:
 				case GAIN_RECORD_OUT_LEFT:
 				case GAIN_RECORD_OUT_RIGHT:
-					String crosspointGainGroup = VaddioNanoConstant.CROSSPOINT_GAIN + command.getName() + VaddioNanoConstant.HASH;
 					for (AudioInput audioInputEnum : AudioInput.values()) {
 						switch (audioInputEnum) {
 							case USB_PLAYBACK_LEFT:
@@ -697,14 +1623,13 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 							case HDMI_IN_RIGHT:
 							case LINE_IN_LEFT:
 							case LINE_IN_RIGHT:
-								key = crosspointGainGroup + audioInputEnum.getPropertyName() + VaddioNanoConstant.GAIN;
-								String crosspointGainCurrentKey = crosspointGainGroup + audioInputEnum.getPropertyName() + VaddioNanoConstant.GAIN_CURRENT_VALUE;
-								String data = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(key)) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(key);
-								if (VaddioNanoConstant.NONE.equalsIgnoreCase(data)) {
+								String key = PropertyKeyTable.crosspointGainKey(command, audioInputEnum);
+								float gain = deviceState.getGain(command, audioInputEnum);
+								if (Float.isNaN(gain)) {
 									controlStats.put(key, VaddioNanoConstant.NONE);
 									break;
 								}
-								populateGainControl(controlStats, advancedControllableProperty, key, crosspointGainCurrentKey, parseResponseByCommandGain(data));
+								populateGainControl(controlStats, advancedControllableProperty, key, PropertyKeyTable.crosspointGainCurrentValueKey(command, audioInputEnum), gain);
 								populateRouteControl(stats, advancedControllableProperty, command, audioInputEnum);
 								break;
 							default:
@@ -727,19 +1652,13 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param audioCrosspoint the audioCrosspoint is AudioCrosspoint enum instance
 	 * @param audioInputEnum the audioInputEnum is AudioInputEnum instance
 	 */
-	private void populateRouteControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperty, AudioCrosspoint audioCrosspoint,
+	private void populateRouteControl(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperty, AudioCrosspoint audioCrosspoint,
 			AudioInput audioInputEnum) {
-		String key = VaddioNanoConstant.CROSSPOINT_GAIN + audioCrosspoint.getName() + VaddioNanoConstant.HASH + VaddioNanoConstant.ENABLED_ROUTES;
-		String data = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(key)) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(key);
-		data = parseResponseByCommandGain(data);
-		int routeValue = 0;
-		if (!StringUtils.isNullOrEmpty(data) && data.contains(audioInputEnum.getValue())) {
-			routeValue = 1;
-		}
-		String routeKey = VaddioNanoConstant.CROSSPOINT_GAIN + audioCrosspoint.getName() + VaddioNanoConstant.HASH + audioInputEnum.getPropertyName() + VaddioNanoConstant.ROUTES;
+		int routeValue = deviceState.isRouted(audioCrosspoint, audioInputEnum) ? 1 : 0;
+		String routeKey = PropertyKeyTable.crosspointRouteKey(audioCrosspoint, audioInputEnum);
 		stats.put(routeKey, VaddioNanoConstant.EMPTY);
 		AdvancedControllableProperty routeControl = createSwitch(routeKey, routeValue, VaddioNanoConstant.OFF, VaddioNanoConstant.ON);
-		advancedControllableProperty.add(routeControl);
+		advancedControllableProperty.upsert(routeControl);
 	}
 
 	/**
@@ -751,12 +1670,12 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param currentKey the currentKey is current key name
 	 * @param value the value is value of gain
 	 */
-	private void populateGainControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperty, String key, String currentKey, String value) {
+	private void populateGainControl(Map<String, String> stats, ControllablePropertyRegistry advancedControllableProperty, String key, String currentKey, float value) {
 		stats.put(key, VaddioNanoConstant.EMPTY);
 		AdvancedControllableProperty crosspointGain = createSlider(stats, key, VaddioNanoConstant.MIN_GAIN, VaddioNanoConstant.MAX_GAIN,
-				Float.parseFloat(VaddioNanoConstant.MIN_GAIN), Float.valueOf(VaddioNanoConstant.MAX_GAIN), Float.valueOf(value));
-		advancedControllableProperty.add(crosspointGain);
-		stats.put(currentKey, String.valueOf((int) Float.parseFloat(value)));
+				Float.parseFloat(VaddioNanoConstant.MIN_GAIN), Float.valueOf(VaddioNanoConstant.MAX_GAIN), value);
+		advancedControllableProperty.upsert(crosspointGain);
+		stats.put(currentKey, String.valueOf((int) value));
 	}
 
 	/**
@@ -766,36 +1685,38 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 * @param advancedControllableProperty the advancedControllableProperty are AdvancedControllableProperty instance
 	 */
 	private void populateMonitoringAndControlling(Map<String, String> stats, Map<String, String> controlStats,
-			List<AdvancedControllableProperty> advancedControllableProperty) {
+			ControllablePropertyRegistry advancedControllableProperty) {
 		for (VaddioCommand command : VaddioCommand.values()) {
+			if (!monitoringPlan.isMonitored(command)) {
+				continue;
+			}
 			String key = command.getName();
 			String data = StringUtils.isNullOrEmpty(cacheKeyAndValue.get(command.getName())) ? VaddioNanoConstant.NONE : cacheKeyAndValue.get(command.getName());
 			switch (command) {
 				case VIDEO_MUTE:
 				case AUDIO_MUTE:
-					data = extractResponseValue(data, VaddioNanoConstant.VIDEO_MUTE_REGEX);
+					Boolean mute = VaddioCommand.VIDEO_MUTE.equals(command) ? deviceState.getVideoMute() : deviceState.getMasterMute();
 					controlStats.put(key, VaddioNanoConstant.EMPTY);
-					int value = VaddioNanoConstant.ON.equalsIgnoreCase(data) ? 1 : 0;
+					int value = Boolean.TRUE.equals(mute) ? 1 : 0;
 					AdvancedControllableProperty videoMuteControl = createSwitch(key, value, VaddioNanoConstant.OFF, VaddioNanoConstant.ON);
-					advancedControllableProperty.add(videoMuteControl);
+					advancedControllableProperty.upsert(videoMuteControl);
 					break;
 				case NETWORK_INFO:
-					populateNetworkSettings(data, stats);
-					break;
 				case STREAM_SETTINGS:
-					populateStreamingSettings(data, stats);
+					populateRenderedResponse(command, data, stats);
 					break;
 				case STREAM_MODE:
-					boolean isIPStreaming = cacheKeyAndValue.get(VaddioCommand.STREAM_MODE.getName()).contains(VaddioNanoConstant.IP_STREAM_MODE);
+					Boolean isIPStreaming = isIPStreaming();
+					if (isIPStreaming == null) {
+						stats.put(key, VaddioNanoConstant.NONE);
+						break;
+					}
 					controlStats.put(key, VaddioNanoConstant.EMPTY);
 					AdvancedControllableProperty streamModeControl = createSwitch(key, isIPStreaming ? 1 : 0, VaddioNanoConstant.USB, VaddioNanoConstant.IP);
-					advancedControllableProperty.add(streamModeControl);
+					advancedControllableProperty.upsert(streamModeControl);
 					break;
 				case VERSION:
-					String audioVersion = extractResponseValue(data, VaddioNanoConstant.AUDIO_REGEX);
-					String systemVersion = extractResponseValue(data, VaddioNanoConstant.SYSTEM_VERSION_REGEX);
-					stats.put(VaddioNanoConstant.AUDIO_VERSION, StringUtils.isNullOrEmpty(audioVersion) ? VaddioNanoConstant.NONE : audioVersion);
-					stats.put(key, StringUtils.isNullOrEmpty(systemVersion) ? VaddioNanoConstant.NONE : systemVersion);
+					populateRenderedResponse(command, data, stats);
 					break;
 				default:
 					logger.debug(String.format("the command %s doesn't support", command.getName()));
@@ -803,7 +1724,62 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 			}
 		}
 		controlStats.put(VaddioNanoConstant.SYSTEM_REBOOT, VaddioNanoConstant.EMPTY);
-		advancedControllableProperty.add(createButton(VaddioNanoConstant.SYSTEM_REBOOT, VaddioNanoConstant.REBOOT, VaddioNanoConstant.REBOOTING, 0L));
+		advancedControllableProperty.upsert(createButton(VaddioNanoConstant.SYSTEM_REBOOT, VaddioNanoConstant.REBOOT, VaddioNanoConstant.REBOOTING, 0L));
+	}
+
+	/**
+	 * Check if the device is streaming over IP
+	 *
+	 * @return Boolean true if the streaming mode is IP, false if it's USB, null if the streaming mode hasn't been retrieved
+	 */
+	private Boolean isIPStreaming() {
+		String streamMode = cacheKeyAndValue.get(VaddioCommand.STREAM_MODE.getName());
+		return StringUtils.isNullOrEmpty(streamMode) ? null : streamMode.contains(VaddioNanoConstant.IP_STREAM_MODE);
+	}
+
+	/**
+	 * Populate the statistics of network settings, version or streaming settings. The statistics are rendered again
+	 * only when the response they are rendered from has changed, otherwise the statistics of the previous render are reused
+	 *
+	 * @param command the command is VaddioCommand instance
+	 * @param data the data is response of the command
+	 * @param stats the stats are list of statistics
+	 */
+	private void populateRenderedResponse(VaddioCommand command, String data, Map<String, String> stats) {
+		Long fingerprint = responseFingerprints.get(command.getName());
+		if (fingerprint != null && VaddioCommand.STREAM_SETTINGS.equals(command)) {
+			Long streamModeFingerprint = responseFingerprints.get(VaddioCommand.STREAM_MODE.getName());
+			fingerprint = streamModeFingerprint == null ? null : 31 * fingerprint + streamModeFingerprint;
+		}
+		Map.Entry<Long, Map<String, String>> rendered = renderedResponses.get(command.getName());
+		if (fingerprint != null && rendered != null && fingerprint.equals(rendered.getKey())) {
+			stats.putAll(rendered.getValue());
+			return;
+		}
+		Map<String, String> commandStats = new HashMap<>();
+		switch (command) {
+			case NETWORK_INFO:
+				populateNetworkSettings(data, commandStats);
+				break;
+			case STREAM_SETTINGS:
+				populateStreamingSettings(data, commandStats);
+				break;
+			case VERSION:
+				Map<String, String> versions = ResponseParser.parse(data, VaddioNanoConstant.AUDIO_LABEL, VaddioNanoConstant.SYSTEM_VERSION_LABEL);
+				String audioVersion = versions.get(VaddioNanoConstant.AUDIO_LABEL);
+				String systemVersion = versions.get(VaddioNanoConstant.SYSTEM_VERSION_LABEL);
+				commandStats.put(VaddioNanoConstant.AUDIO_VERSION, StringUtils.isNullOrEmpty(audioVersion) ? VaddioNanoConstant.NONE : audioVersion);
+				commandStats.put(command.getName(), StringUtils.isNullOrEmpty(systemVersion) ? VaddioNanoConstant.NONE : systemVersion);
+				break;
+			default:
+				break;
+		}
+		if (fingerprint == null) {
+			renderedResponses.remove(command.getName());
+		} else {
+			renderedResponses.put(command.getName(), new AbstractMap.SimpleImmutableEntry<>(fingerprint, commandStats));
+		}
+		stats.putAll(commandStats);
 	}
 
 	/**
@@ -814,11 +1790,13 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 */
 	private void populateStreamingSettings(String response, Map<String, String> stats) {
 		try {
-			boolean isIPStreaming = cacheKeyAndValue.get(VaddioCommand.STREAM_MODE.getName()).contains(VaddioNanoConstant.IP_STREAM_MODE);
+			// the USB settings are rendered while the streaming mode is unknown
+			boolean isIPStreaming = Boolean.TRUE.equals(isIPStreaming());
+			Map<String, String> values = ResponseParser.parse(response, STREAM_SETTINGS_LABELS);
 			for (StreamSettings streamSettings : StreamSettings.values()) {
 				if (isIPStreaming && streamSettings.isIPStreaming()) {
 					String key = VaddioNanoConstant.STREAMING_IP + VaddioNanoConstant.HASH + streamSettings.getName();
-					String value = extractResponseValue(response, streamSettings.getValue());
+					String value = values.getOrDefault(streamSettings.getValue(), VaddioNanoConstant.NONE);
 					switch (streamSettings) {
 						case IP_VIDEO_QUALITY:
 							handleIPVideoQuality(value, stats);
@@ -843,7 +1821,7 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 				}
 				if (!isIPStreaming && !streamSettings.isIPStreaming()) {
 					String key = VaddioNanoConstant.STREAMING_USP + VaddioNanoConstant.HASH + streamSettings.getName();
-					String value = extractResponseValue(response, streamSettings.getValue());
+					String value = values.getOrDefault(streamSettings.getValue(), VaddioNanoConstant.NONE);
 
 					if (streamSettings.getName().equals(StreamSettings.HID_AUDIO_CONTROLS_ENABLED.getName())) {
 						stats.put(key, VaddioNanoConstant.TRUE.equalsIgnoreCase(value) ? VaddioNanoConstant.ENABLE : VaddioNanoConstant.DISABLE);
@@ -916,8 +1894,9 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 */
 	private void populateNetworkSettings(String response, Map<String, String> stats) {
 		try {
+			Map<String, String> values = ResponseParser.parse(response, NETWORK_INFORMATION_LABELS);
 			for (NetworkInformation network : NetworkInformation.values()) {
-				stats.put(VaddioNanoConstant.NETWORK_SETTINGS + VaddioNanoConstant.HASH + network.getName(), extractResponseValue(response, network.getValue()));
+				stats.put(VaddioNanoConstant.NETWORK_SETTINGS + VaddioNanoConstant.HASH + network.getName(), values.getOrDefault(network.getValue(), VaddioNanoConstant.NONE));
 			}
 		} catch (Exception e) {
 			for (NetworkInformation network : NetworkInformation.values()) {
@@ -927,73 +1906,328 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	}
 
 	/**
-	 * Extract value received from device
+	 * Retrieve monitoring data, the expired commands of the monitoring plan are sent within the {@link #commandsPerPoll} and {@link #pollTimeBudget} budgets
+	 *
+	 * @return List of the expired groups which weren't retrieved by this poll, their cached data is older than their refresh interval
+	 * @throws FailedLoginException if get the FailedLoginException
+	 */
+	private List<String> retrieveMonitoring() throws FailedLoginException {
+		long startTime = System.currentTimeMillis();
+		if (isFirmwareProbeRequired) {
+			probeFirmwareCapabilities();
+		}
+		monitoringPlanGroups.clear();
+		Map<String, String> commands = new LinkedHashMap<>();
+		for (VaddioCommand command : VaddioCommand.values()) {
+			if (monitoringPlan.isMonitored(command)) {
+				addMonitoringCommand(commands, command.getName(), command.getCommand(), command.getRefreshTier());
+			}
+		}
+		retrieveMonitoringDataWithConfigManagement(commands);
+		for (AudioCrosspoint command : AudioCrosspoint.values()) {
+			if (monitoringPlan.isCrosspointMonitored(command)) {
+				addMonitoringCommand(commands, PropertyKeyTable.enabledRoutesKey(command), PropertyKeyTable.routesGetCommand(command),
+						AudioCommandType.ROUTE.getRefreshTier());
+				for (AudioInput audioInputEnum : AudioInput.values()) {
+					addMonitoringCommand(commands, PropertyKeyTable.crosspointGainKey(command, audioInputEnum), PropertyKeyTable.crosspointGainGetCommand(command, audioInputEnum),
+							AudioCommandType.CROSSPOINT_GAIN.getRefreshTier());
+				}
+			}
+		}
+		sendCommandsDetails(selectPollSlice(commands, fastRefreshGroups, cacheTimestamps, getCommandsPerPollLimit(), pollDeadline > 0));
+		List<String> staleGroups = new ArrayList<>();
+		for (String group : commands.keySet()) {
+			Long retrievedTime = cacheTimestamps.get(group);
+			if (retrievedTime == null || retrievedTime < startTime) {
+				staleGroups.add(group);
+			}
+		}
+		return staleGroups;
+	}
+
+	/**
+	 * Select the commands sent in this poll, at most budget of them. The priority groups take at most half of the budget and the least recently
+	 * refreshed groups the rest, so a plan larger than the budget is spread over consecutive polls and every group is refreshed in turn
+	 * even if the priority groups expire on every poll. The commands of a time limited poll are ordered the least recently refreshed first
+	 * as well, the commands cut off by the deadline are then the first ones of the next poll
+	 *
+	 * @param commands the commands are map of group name and command of the expired groups, in plan order
+	 * @param priorityGroups the priorityGroups are groups selected before the others
+	 * @param retrievedTimes the retrievedTimes are map of group name and the time it was last retrieved
+	 * @param budget the budget is maximum number of commands, 0 if there is no limit
+	 * @param isTimeLimited the isTimeLimited is true if the poll has a deadline
+	 * @return Map of group name and command to send, in the order to send them
+	 */
+	static Map<String, String> selectPollSlice(Map<String, String> commands, Set<String> priorityGroups, Map<String, Long> retrievedTimes, int budget,
+			boolean isTimeLimited) {
+		if (!isTimeLimited && (budget <= 0 || commands.size() <= budget)) {
+			return commands;
+		}
+		if (budget <= 0) {
+			budget = commands.size();
+		}
+		List<Map.Entry<String, String>> entries = new ArrayList<>(commands.entrySet());
+		// the sort is stable, groups never retrieved or retrieved at the same time keep the plan order
+		entries.sort(Comparator.comparingLong(entry -> retrievedTimes.getOrDefault(entry.getKey(), 0L)));
+		Map<String, String> slice = new LinkedHashMap<>();
+		int priorityBudget = budget / 2;
+		for (Map.Entry<String, String> entry : entries) {
+			if (slice.size() >= priorityBudget) {
+				break;
+			}
+			if (priorityGroups.contains(entry.getKey())) {
+				slice.put(entry.getKey(), entry.getValue());
+			}
+		}
+		for (Map.Entry<String, String> entry : entries) {
+			if (slice.size() >= budget) {
+				break;
+			}
+			slice.putIfAbsent(entry.getKey(), entry.getValue());
+		}
+		return slice;
+	}
+
+	/**
+	 * Probe the firmware version once after login and take its cached capabilities, so the polling plan leaves out the commands
+	 * the firmware is known to reject. The version response is cached as the response of {@link VaddioCommand#VERSION},
+	 * the probe doesn't cost the poll an extra command. The firmware stays unknown and no command is pruned if the version can't be retrieved
 	 *
-	 * @param response the response is response of device
-	 * @param regex the regex is regex to extract the response value
-	 * @return String is value of the device
+	 * @throws FailedLoginException if authentication fails
 	 */
-	private static String extractResponseValue(String response, String regex) {
-		Pattern pattern = Pattern.compile(regex);
-		Matcher matcher = pattern.matcher(response);
+	private void probeFirmwareCapabilities() throws FailedLoginException {
+		firmwareCapabilities = null;
+		if (!isCommandAllowed(VaddioCommand.VERSION.getCommand())) {
+			return;
+		}
+		long startTime = System.currentTimeMillis();
+		pollCommandCount++;
+		sendCommandDetails(VaddioCommand.VERSION.getCommand(), VaddioCommand.VERSION.getName());
+		if (isDeviceUnreachable) {
+			return;
+		}
+		isFirmwareProbeRequired = false;
+		Long retrievedTime = cacheTimestamps.get(VaddioCommand.VERSION.getName());
+		if (retrievedTime == null || retrievedTime < startTime) {
+			return;
+		}
+		String systemVersion = ResponseParser.parse(cacheKeyAndValue.get(VaddioCommand.VERSION.getName()), VaddioNanoConstant.SYSTEM_VERSION_LABEL)
+				.get(VaddioNanoConstant.SYSTEM_VERSION_LABEL);
+		if (StringUtils.isNotNullOrEmpty(systemVersion)) {
+			firmwareCapabilities = FirmwareCapabilities.forFirmware(systemVersion);
+		}
+	}
 
-		if (matcher.find()) {
-			return matcher.group(1).trim();
+	/**
+	 * Retrieve monitoring Data With ConfigManagement, only the audio inputs and outputs of the monitoring plan are retrieved
+	 *
+	 * @param commands the commands are map of group name and command to get data
+	 */
+	private void retrieveMonitoringDataWithConfigManagement(Map<String, String> commands) {
+		for (AudioInput audioInputEnum : AudioInput.values()) {
+			if (monitoringPlan.isVolumeMonitored(audioInputEnum)) {
+				addMonitoringCommand(commands, PropertyKeyTable.inputVolumeKey(audioInputEnum), PropertyKeyTable.inputVolumeCommand(audioInputEnum),
+						AudioCommandType.VOLUME.getRefreshTier());
+			}
+			if (monitoringPlan.isMuteMonitored(audioInputEnum)) {
+				addMonitoringCommand(commands, PropertyKeyTable.inputMuteKey(audioInputEnum), PropertyKeyTable.inputMuteCommand(audioInputEnum),
+						AudioCommandType.MUTE.getRefreshTier());
+			}
 		}
+		for (AudioCrosspoint command : AudioCrosspoint.values()) {
+			if (monitoringPlan.isMuteMonitored(command)) {
+				addMonitoringCommand(commands, PropertyKeyTable.outputMuteKey(command), PropertyKeyTable.outputMuteCommand(command), AudioCommandType.MUTE.getRefreshTier());
+			}
+			if (monitoringPlan.isVolumeMonitored(command)) {
+				addMonitoringCommand(commands, PropertyKeyTable.outputVolumeKey(command), PropertyKeyTable.outputVolumeCommand(command), AudioCommandType.VOLUME.getRefreshTier());
+			}
+		}
+	}
 
-		return VaddioNanoConstant.NONE;
+	/**
+	 * Add the command to the polling plan if the cached response of its group has expired, the circuit breaker of the command is not open
+	 * and the command is supported by the firmware
+	 *
+	 * @param commands the commands are map of group name and command to get data
+	 * @param group the group is group name of properties
+	 * @param command the command is command to get data
+	 * @param refreshTier the refreshTier is refresh tier of the command
+	 */
+	private void addMonitoringCommand(Map<String, String> commands, String group, String command, RefreshTier refreshTier) {
+		monitoringPlanGroups.add(group);
+		if (refreshTier == RefreshTier.FAST) {
+			fastRefreshGroups.add(group);
+		}
+		Long retrievedTime = cacheTimestamps.get(group);
+		if ((retrievedTime == null || System.currentTimeMillis() - retrievedTime >= refreshIntervals.getOrDefault(refreshTier, refreshTier.getDefaultInterval()))
+				&& isCommandAllowed(command) && (firmwareCapabilities == null || firmwareCapabilities.isSupported(command, System.currentTimeMillis()))) {
+			commands.put(group, command);
+		}
 	}
 
 	/**
-	 * Retrieve monitoring data
+	 * Cache the response of the group and the time it was retrieved, audio and video responses are parsed into {@link #deviceState}.
+	 * A response identical to the previous one of the group is neither parsed nor cached again
 	 *
-	 * @throws FailedLoginException if get the FailedLoginException
+	 * @param group the group is group name of properties
+	 * @param response the response is response received from device
 	 */
-	private void retrieveMonitoring() throws FailedLoginException {
-		if (!isNextPollingInterval) {
-			for (VaddioCommand command : VaddioCommand.values()) {
-				if (isConfigManagement || command.isMonitoring()) {
-					sendCommandDetails(command.getCommand(), command.getName());
-				}
+	private void cacheResponse(String group, String response) {
+		long fingerprint = ResponseParser.fingerprint(response);
+		Long previousFingerprint = responseFingerprints.put(group, fingerprint);
+		if (previousFingerprint == null || previousFingerprint != fingerprint) {
+			if (!deviceState.update(group, response)) {
+				cacheKeyAndValue.put(group, response);
 			}
-			if (isConfigManagement) {
-				retrieveMonitoringDataWithConfigManagement();
+			if (responseStore != null) {
+				latestResponses.put(group, response);
+				isResponseStoreDirty = true;
 			}
-			isNextPollingInterval = true;
-		} else {
-			if (isConfigManagement) {
-				for (AudioCrosspoint command : AudioCrosspoint.values()) {
+		}
+		cacheTimestamps.put(group, System.currentTimeMillis());
+	}
 
-					String commandItem = command.getCommand();
-					String crosspointGroup = VaddioNanoConstant.CROSSPOINT_GAIN + command.getName() + VaddioNanoConstant.HASH;
-					sendCommandDetails(commandItem + VaddioNanoConstant.ROUTES_COMMAND, crosspointGroup + VaddioNanoConstant.ENABLED_ROUTES);
-					for (AudioInput audioInputEnum : AudioInput.values()) {
-						String group = crosspointGroup + audioInputEnum.getPropertyName() + VaddioNanoConstant.GAIN;
-						sendCommandDetails(commandItem + VaddioNanoConstant.GAIN_COMMAND + audioInputEnum.getValue() + VaddioNanoConstant.GET, group);
+	/**
+	 * Send monitoring commands in pipelined batches, every batch is written to the channel at once
+	 * and the output is split back into per-command responses by the prompt terminator
+	 *
+	 * @param commands the commands are map of group name and command to get data
+	 * @throws FailedLoginException if authentication fails
+	 */
+	private void sendCommandsDetails(Map<String, String> commands) throws FailedLoginException {
+		List<Map.Entry<String, String>> entries = new ArrayList<>(commands.entrySet());
+		for (int i = 0; i < entries.size(); i += VaddioNanoConstant.MAX_PIPELINED_COMMANDS) {
+			List<Map.Entry<String, String>> batch = entries.subList(i, Math.min(i + VaddioNanoConstant.MAX_PIPELINED_COMMANDS, entries.size()));
+			if (!isPipelineSupported || batch.size() == 1) {
+				for (Map.Entry<String, String> entry : batch) {
+					if (isDeviceUnreachable || isPollDeadlineReached()) {
+						return;
 					}
+					yieldToPendingControls();
+					pollCommandCount++;
+					sendCommandDetails(entry.getValue(), entry.getKey());
 				}
-				isNextPollingInterval = false;
+				continue;
+			}
+			if (isDeviceUnreachable || isPollDeadlineReached()) {
+				return;
 			}
+			yieldToPendingControls();
+			pollCommandCount += batch.size();
+			sendPipelinedCommands(batch);
 		}
+		yieldToPendingControls();
 	}
 
 	/**
-	 * Retrieve monitoring Data With ConfigManagement
+	 * Join the stale groups into the value of {@link VaddioNanoConstant#STALE_GROUPS}
 	 *
-	 * @throws FailedLoginException if get the FailedLoginException
+	 * @param staleGroups the staleGroups are names of the stale groups
+	 * @return String comma separated group names, {@link VaddioNanoConstant#NONE} if there is no stale group
 	 */
-	private void retrieveMonitoringDataWithConfigManagement() throws FailedLoginException {
-		for (AudioInput audioInputEnum : AudioInput.values()) {
-			String group = audioInputEnum.getPropertyName() + VaddioNanoConstant.HASH;
-			sendCommandDetails(VaddioNanoConstant.AUDIO_COMMAND + audioInputEnum.getValue() + VaddioNanoConstant.VOLUME_COMMAND, group + VaddioNanoConstant.VOLUME);
-			sendCommandDetails(VaddioNanoConstant.AUDIO_COMMAND + audioInputEnum.getValue() + VaddioNanoConstant.MUTE_COMMAND, group + VaddioNanoConstant.MUTE);
+	private String joinStaleGroups(Collection<String> staleGroups) {
+		return staleGroups.isEmpty() ? VaddioNanoConstant.NONE : String.join(VaddioNanoConstant.COMMA, staleGroups);
+	}
+
+	/**
+	 * Check if the current poll has run out of its time budget
+	 *
+	 * @return boolean (true/false)
+	 */
+	private boolean isPollDeadlineReached() {
+		return pollDeadline > 0 && System.currentTimeMillis() >= pollDeadline;
+	}
+
+	/**
+	 * Release {@link #reentrantLock} to the controls waiting for it and take it back once they're served,
+	 * so a control issued during polling waits for one command or batch instead of the whole poll.
+	 * The lock is fair, the controls already queued on it take it before the poll does. A control which hasn't queued yet is served at the next batch
+	 */
+	private void yieldToPendingControls() {
+		if (pendingControlValues.isEmpty() || !reentrantLock.isHeldByCurrentThread()) {
+			return;
 		}
-		for (AudioCrosspoint command : AudioCrosspoint.values()) {
-			String group = command.getName() + VaddioNanoConstant.HASH;
-			String commandItem = command.getCommand();
-			sendCommandDetails(commandItem + VaddioNanoConstant.MUTE_COMMAND, group + VaddioNanoConstant.MUTE);
-			sendCommandDetails(commandItem + VaddioNanoConstant.VOLUME_COMMAND, group + VaddioNanoConstant.VOLUME);
+		int holdCount = reentrantLock.getHoldCount();
+		for (int i = 0; i < holdCount; i++) {
+			reentrantLock.unlock();
+		}
+		for (int i = 0; i < holdCount; i++) {
+			reentrantLock.lock();
+		}
+	}
+
+	/**
+	 * Send a batch of commands in one write and cache the response of each command by its group
+	 *
+	 * @param batch the batch is list of group name and command to get data
+	 * @throws FailedLoginException if authentication fails
+	 */
+	private void sendPipelinedCommands(List<Map.Entry<String, String>> batch) throws FailedLoginException {
+		StringBuilder request = new StringBuilder();
+		for (Map.Entry<String, String> entry : batch) {
+			request.append(entry.getValue().trim()).append(VaddioNanoConstant.NEW_LINE);
+		}
+		String response;
+		long startTime = System.nanoTime();
+		try {
+			pipelinedCommandCount = batch.size();
+			response = send(request.toString());
+		} catch (FailedLoginException e) {
+			throw new FailedLoginException("Login failed: " + e);
+		} catch (Exception ex) {
+			logger.error(String.format("Error when get pipelined commands: %s", request), ex);
+			for (Map.Entry<String, String> entry : batch) {
+				handleCommandFailure(entry.getValue(), ex);
+			}
+			return;
+		} finally {
+			pipelinedCommandCount = 0;
+		}
+		List<String> responses = splitPipelinedResponse(response, batch);
+		if (responses.isEmpty()) {
+			logger.warn(String.format("Unable to split pipelined response from %s, fall back to send command one by one", host));
+			isPipelineSupported = false;
+			for (Map.Entry<String, String> entry : batch) {
+				if (isDeviceUnreachable) {
+					return;
+				}
+				sendCommandDetails(entry.getValue(), entry.getKey());
+			}
+			return;
+		}
+		// the device answers the commands in order, the latency of a command runs from the previous prompt to its own
+		long segmentStartTime = startTime;
+		for (int i = 0; i < batch.size(); i++) {
+			recordLatency(CommandFamily.of(batch.get(i).getValue()), segmentStartTime, promptTimestamps[i]);
+			segmentStartTime = promptTimestamps[i];
+			handleCommandResponse(batch.get(i).getValue(), batch.get(i).getKey(), responses.get(i));
+		}
+	}
+
+	/**
+	 * Split the output of a pipelined batch into per-command responses, each response ends with the prompt terminator
+	 *
+	 * @param response the response is output of the whole batch
+	 * @param batch the batch is list of group name and command which were sent
+	 * @return List of responses in the order of the batch, or empty list if the output doesn't match the batch
+	 */
+	static List<String> splitPipelinedResponse(String response, List<Map.Entry<String, String>> batch) {
+		List<String> responses = new ArrayList<>(batch.size());
+		int start = 0;
+		for (Map.Entry<String, String> entry : batch) {
+			int end = response.indexOf(VaddioNanoConstant.PROMPT, start);
+			if (end < 0) {
+				return Collections.emptyList();
+			}
+			end += VaddioNanoConstant.PROMPT.length();
+			String item = response.substring(start, end);
+			if (!item.contains(entry.getValue().trim())) {
+				return Collections.emptyList();
+			}
+			responses.add(item);
+			start = end;
 		}
+		return responses;
 	}
 
 	/**
@@ -1005,40 +2239,108 @@ public class VaddioBridgeNanoCommunicator extends SshCommunicator implements Mon
 	 */
 	private void sendCommandDetails(String command, String group) throws FailedLoginException {
 		try {
+			long startTime = System.nanoTime();
 			String response = send(command.contains("\r") ? command : command.concat("\r"));
-			cacheKeyAndValue.put(group, response.replaceAll(VaddioNanoConstant.REGEX_RESPONSE, VaddioNanoConstant.EMPTY));
+			recordLatency(CommandFamily.of(command), startTime, System.nanoTime());
+			handleCommandResponse(command, group, response);
 		} catch (FailedLoginException e) {
 			throw new FailedLoginException("Login failed: " + e);
 		} catch (Exception ex) {
 			logger.error(String.format("Error when get command: %s", command), ex);
-			failedMonitor.put(command, ex.getMessage());
+			handleCommandFailure(command, ex);
 		}
 	}
 
 	/**
-	 * Parse response data by command
+	 * This method is used to validate input polling interval from user
 	 *
-	 * @param response the response is response received from device
-	 * @return String the string is the extracted response
+	 * @return long polling interval in milliseconds
 	 */
-	private String parseResponseByCommandGain(String response) {
-		if (VaddioNanoConstant.NONE.equalsIgnoreCase(response)) {
-			return VaddioNanoConstant.NONE;
+	private long getPollingIntervalInMillis() {
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.pollingInterval)) {
+				return Math.max(TimeUnit.SECONDS.toMillis(Long.parseLong(this.pollingInterval.trim())), VaddioNanoConstant.MIN_POLLING_INTERVAL);
+			}
+		} catch (NumberFormatException e) {
+			logger.warn(String.format("Invalid polling interval %s, use the default value", this.pollingInterval));
 		}
+		return VaddioNanoConstant.DEFAULT_POLLING_INTERVAL;
+	}
+
+	/**
+	 * This method is used to validate input commands per poll from user
+	 *
+	 * @return int maximum number of commands per poll, 0 if there is no limit
+	 */
+	private int getCommandsPerPollLimit() {
 		try {
-			String value = response.substring(response.indexOf(VaddioNanoConstant.SPACE) + 1);
-			String[] arrayValue = value.split("\r\n");
-			return arrayValue[1].trim();
-		} catch (Exception e) {
-			return VaddioNanoConstant.NONE;
+			if (StringUtils.isNotNullOrEmpty(this.commandsPerPoll)) {
+				return Math.max(Integer.parseInt(this.commandsPerPoll.trim()), 0);
+			}
+		} catch (NumberFormatException e) {
+			logger.warn(String.format("Invalid commands per poll %s, use the default value", this.commandsPerPoll));
+		}
+		return VaddioNanoConstant.DEFAULT_COMMANDS_PER_POLL;
+	}
+
+	/**
+	 * This method is used to validate input poll time budget from user
+	 *
+	 * @return long poll time budget in milliseconds, 0 if there is no limit
+	 */
+	private long getPollTimeBudgetInMillis() {
+		try {
+			if (StringUtils.isNotNullOrEmpty(this.pollTimeBudget)) {
+				return Math.max(TimeUnit.SECONDS.toMillis(Long.parseLong(this.pollTimeBudget.trim())), 0);
+			}
+		} catch (NumberFormatException e) {
+			logger.warn(String.format("Invalid poll time budget %s, use the default value", this.pollTimeBudget));
+		}
+		return VaddioNanoConstant.DEFAULT_POLL_TIME_BUDGET;
+	}
+
+	/**
+	 * This method is used to validate input refresh intervals from user
+	 */
+	private void convertRefreshIntervals() {
+		refreshIntervals.put(RefreshTier.STATIC, convertRefreshInterval(this.staticRefreshInterval, RefreshTier.STATIC));
+		refreshIntervals.put(RefreshTier.SLOW, convertRefreshInterval(this.slowRefreshInterval, RefreshTier.SLOW));
+		refreshIntervals.put(RefreshTier.FAST, convertRefreshInterval(this.fastRefreshInterval, RefreshTier.FAST));
+	}
+
+	/**
+	 * Convert the refresh interval in seconds from user to milliseconds
+	 *
+	 * @param refreshInterval the refreshInterval is value in seconds from user
+	 * @param refreshTier the refreshTier is refresh tier of the value
+	 * @return long refresh interval in milliseconds
+	 */
+	private long convertRefreshInterval(String refreshInterval, RefreshTier refreshTier) {
+		try {
+			if (StringUtils.isNotNullOrEmpty(refreshInterval)) {
+				return Math.max(TimeUnit.SECONDS.toMillis(Long.parseLong(refreshInterval.trim())), 0);
+			}
+		} catch (NumberFormatException e) {
+			logger.warn(String.format("Invalid %s refresh interval %s, use the default value", refreshTier.name(), refreshInterval));
 		}
+		return refreshTier.getDefaultInterval();
 	}
 
 	/**
-	 * This method is used to validate input config management from user
+	 * This method is used to validate input config management from user, the monitoring plan is compiled again if
+	 * the config management or the monitored groups have changed
 	 */
 	private void convertConfigManagement() {
 		isConfigManagement = StringUtils.isNotNullOrEmpty(this.configManagement) && this.configManagement.equalsIgnoreCase(VaddioNanoConstant.TRUE);
+		String source = isConfigManagement + VaddioNanoConstant.HASH + this.monitoredGroups;
+		if (source.equals(monitoringPlanSource)) {
+			return;
+		}
+		monitoringPlan = MonitoringPlan.compile(isConfigManagement, this.monitoredGroups);
+		monitoringPlanSource = source;
+		if (!monitoringPlan.getUnknownGroups().isEmpty()) {
+			logger.warn(String.format("Unknown monitored groups %s are ignored", monitoringPlan.getUnknownGroups()));
+		}
 	}
 
 	/***
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * AudioCommandType class defined the enum contains the kinds of command derived from {@link AudioInput} and {@link AudioCrosspoint}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public enum AudioCommandType {
+
+	VOLUME(RefreshTier.SLOW),
+	MUTE(RefreshTier.FAST),
+	CROSSPOINT_GAIN(RefreshTier.SLOW),
+	ROUTE(RefreshTier.SLOW),
+	;
+
+	/**
+	 * AudioCommandType constructor
+	 *
+	 * @param refreshTier refresh tier of {@link #refreshTier}
+	 */
+	AudioCommandType(RefreshTier refreshTier) {
+		this.refreshTier = refreshTier;
+	}
+
+	private final RefreshTier refreshTier;
+
+	/**
+	 * Retrieves {@link #refreshTier}
+	 *
+	 * @return value of {@link #refreshTier}
+	 */
+	public RefreshTier getRefreshTier() {
+		return refreshTier;
+	}
+}
@@ -54,4 +54,19 @@ public enum AudioCrosspoint {
 	public String getCommand() {
 		return command;
 	}
+
+	/**
+	 * Get audio crosspoint by name
+	 *
+	 * @param name is name of the audio crosspoint
+	 * @return AudioCrosspoint is AudioCrosspoint instance, null if the name doesn't match
+	 */
+	public static AudioCrosspoint getByName(String name) {
+		for (AudioCrosspoint audioCrosspoint : AudioCrosspoint.values()) {
+			if (audioCrosspoint.getName().equalsIgnoreCase(name)) {
+				return audioCrosspoint;
+			}
+		}
+		return null;
+	}
 }
\ No newline at end of file
@@ -64,23 +64,4 @@ public enum AudioInput {
 	public String getPropertyName() {
 		return propertyName;
 	}
-
-	/**
-	 * Get value by name
-	 *
-	 * @param name is String
-	 * @return T is metric instance
-	 */
-	public static <T extends Enum<T>> String getValueByName(String name) {
-		try {
-			for (AudioInput audioInputEnum : AudioInput.values()) {
-				if (audioInputEnum.getPropertyName().equalsIgnoreCase(name)) {
-					return audioInputEnum.getValue();
-				}
-			}
-			return VaddioNanoConstant.EMPTY;
-		} catch (Exception e) {
-			return VaddioNanoConstant.EMPTY;
-		}
-	}
 }
\ No newline at end of file
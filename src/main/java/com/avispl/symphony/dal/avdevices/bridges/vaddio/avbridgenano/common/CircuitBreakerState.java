@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * CircuitBreakerState class defined the states of the circuit breaker of a monitoring command
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public enum CircuitBreakerState {
+
+	CLOSED("Closed"),
+	OPEN("Open"),
+	HALF_OPEN("HalfOpen"),
+	;
+
+	/**
+	 * CircuitBreakerState constructor
+	 *
+	 * @param name name of {@link #name}
+	 */
+	CircuitBreakerState(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * CommandCircuitBreaker class keeps the failures of one monitoring command.
+ * The breaker opens after {@link VaddioNanoConstant#CIRCUIT_BREAKER_FAILURE_THRESHOLD} consecutive failures,
+ * lets one attempt through once the backoff has elapsed and opens again with a doubled backoff if the attempt fails
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class CommandCircuitBreaker {
+
+	private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+	private int failureCount;
+	private int openCount;
+	private long openUntil;
+
+	/**
+	 * Record a failure of the command
+	 *
+	 * @param now the now is current time in milliseconds
+	 */
+	public void recordFailure(long now) {
+		failureCount++;
+		if (CircuitBreakerState.HALF_OPEN.equals(state) || failureCount >= VaddioNanoConstant.CIRCUIT_BREAKER_FAILURE_THRESHOLD) {
+			long backoff = VaddioNanoConstant.MIN_CIRCUIT_BREAKER_BACKOFF << Math.min(openCount, 16);
+			openCount++;
+			openUntil = now + Math.min(backoff, VaddioNanoConstant.MAX_CIRCUIT_BREAKER_BACKOFF);
+			state = CircuitBreakerState.OPEN;
+		}
+	}
+
+	/**
+	 * Check if the command can be sent, an open breaker becomes half-open once its backoff has elapsed
+	 *
+	 * @param now the now is current time in milliseconds
+	 * @return boolean (true/false)
+	 */
+	public boolean allowRequest(long now) {
+		if (CircuitBreakerState.OPEN.equals(state)) {
+			if (now < openUntil) {
+				return false;
+			}
+			state = CircuitBreakerState.HALF_OPEN;
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves {@link #state}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public CircuitBreakerState getState() {
+		return state;
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * CommandFamily class defined the families of commands the latencies are measured for
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public enum CommandFamily {
+
+	STREAMING("Streaming"),
+	NETWORK("Network"),
+	SYSTEM("System"),
+	MASTER_MUTE("MasterMute"),
+	VOLUME("Volume"),
+	MUTE("Mute"),
+	CROSSPOINT_GAIN("CrosspointGain"),
+	ROUTE("Route"),
+	OTHER("Other"),
+	;
+
+	private static final String STREAMING_PREFIX = "streaming";
+	private static final String NETWORK_PREFIX = "network";
+	private static final String VERSION_PREFIX = "version";
+	private static final String SYSTEM_PREFIX = "system";
+	private static final String VIDEO_MUTE_PREFIX = "video mute";
+	private static final String AUDIO_MASTER_MUTE_PREFIX = "audio master mute";
+	private static final String ROUTE_WORD = " route ";
+
+	/**
+	 * CommandFamily constructor
+	 *
+	 * @param name name of {@link #name}
+	 */
+	CommandFamily(String name) {
+		this.name = name;
+	}
+
+	private final String name;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the family of a single command sent to the device
+	 *
+	 * @param command the command is command in lower case
+	 * @return CommandFamily is CommandFamily instance, {@link #OTHER} if the command doesn't belong to any family
+	 */
+	public static CommandFamily of(String command) {
+		if (command.startsWith(STREAMING_PREFIX)) {
+			return STREAMING;
+		}
+		if (command.startsWith(NETWORK_PREFIX)) {
+			return NETWORK;
+		}
+		if (command.startsWith(VERSION_PREFIX) || command.startsWith(SYSTEM_PREFIX)) {
+			return SYSTEM;
+		}
+		if (command.startsWith(VIDEO_MUTE_PREFIX) || command.startsWith(AUDIO_MASTER_MUTE_PREFIX)) {
+			return MASTER_MUTE;
+		}
+		if (command.contains(VaddioNanoConstant.GAIN_COMMAND)) {
+			return CROSSPOINT_GAIN;
+		}
+		if (command.contains(ROUTE_WORD)) {
+			return ROUTE;
+		}
+		if (command.contains(VaddioNanoConstant.VOLUME_CONTROL)) {
+			return VOLUME;
+		}
+		if (command.contains(VaddioNanoConstant.MUTE_CONTROL)) {
+			return MUTE;
+		}
+		return OTHER;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ControlTarget class defined what a controllable property controls: the control type, the command bound to it
+ * and the audio output and input it belongs to. The targets of all controllable properties are indexed by property name at class load
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public final class ControlTarget {
+
+	/**
+	 * Index of property name and the target it controls
+	 */
+	private static final Map<String, ControlTarget> TARGETS = new HashMap<>();
+
+	static {
+		register(VaddioNanoConstant.VIDEO_MUTE, new ControlTarget(PropertiesControlList.VIDEO_MUTE, VaddioNanoConstant.VIDEO_MUTE, VaddioCommand.VIDEO_COMMAND, null, null, null));
+		register(VaddioNanoConstant.AUDIO_MUTE, new ControlTarget(PropertiesControlList.AUDIO_MUTE, VaddioNanoConstant.AUDIO_MUTE, VaddioCommand.AUDIO_COMMAND, null, null, null));
+		register(VaddioNanoConstant.STREAM_MODE, new ControlTarget(PropertiesControlList.STREAM_MODE, VaddioNanoConstant.STREAM_MODE, VaddioCommand.STREAMING_MODE, null, null, null));
+		register(VaddioNanoConstant.SYSTEM_REBOOT, new ControlTarget(PropertiesControlList.SYSTEM_REBOOT, VaddioNanoConstant.SYSTEM_REBOOT, VaddioCommand.SYSTEM_REBOOT, null, null, null));
+		for (AudioInput input : AudioInput.values()) {
+			String command = VaddioNanoConstant.AUDIO_COMMAND + input.getValue();
+			register(PropertyKeyTable.inputMuteKey(input),
+					new ControlTarget(PropertiesControlList.MUTE, input.getValue(), command + VaddioNanoConstant.MUTE_CONTROL, null, input, null));
+			register(PropertyKeyTable.inputVolumeKey(input), new ControlTarget(PropertiesControlList.VOLUME, input.getValue(),
+					command + VaddioNanoConstant.SPACE + VaddioNanoConstant.VOLUME_CONTROL.trim() + VaddioNanoConstant.SET, null, input, PropertyKeyTable.inputVolumeCurrentValueKey(input)));
+		}
+		for (AudioCrosspoint crosspoint : AudioCrosspoint.values()) {
+			String group = crosspoint.getCommand().replace(VaddioNanoConstant.AUDIO_COMMAND, VaddioNanoConstant.EMPTY);
+			register(PropertyKeyTable.outputMuteKey(crosspoint),
+					new ControlTarget(PropertiesControlList.MUTE, group, crosspoint.getCommand() + VaddioNanoConstant.MUTE_CONTROL, crosspoint, null, null));
+			register(PropertyKeyTable.outputVolumeKey(crosspoint), new ControlTarget(PropertiesControlList.VOLUME, group,
+					crosspoint.getCommand() + VaddioNanoConstant.SPACE + VaddioNanoConstant.VOLUME_CONTROL.trim() + VaddioNanoConstant.SET, crosspoint, null, PropertyKeyTable.outputVolumeCurrentValueKey(crosspoint)));
+			for (AudioInput input : AudioInput.values()) {
+				register(PropertyKeyTable.crosspointGainKey(crosspoint, input), new ControlTarget(PropertiesControlList.CROSSPOINT_GAIN, input.getPropertyName() + VaddioNanoConstant.GAIN,
+						PropertyKeyTable.crosspointGainSetCommand(crosspoint, input), crosspoint, input, PropertyKeyTable.crosspointGainCurrentValueKey(crosspoint, input)));
+				register(PropertyKeyTable.crosspointRouteKey(crosspoint, input), new ControlTarget(PropertiesControlList.CROSSPOINT_ROUTE, input.getPropertyName() + VaddioNanoConstant.ROUTES,
+						PropertyKeyTable.routesSetCommand(crosspoint), crosspoint, input, null));
+			}
+		}
+	}
+
+	private final PropertiesControlList type;
+	private final String name;
+	private final String command;
+	private final AudioCrosspoint crosspoint;
+	private final AudioInput input;
+	private final String currentValueKey;
+
+	/**
+	 * ControlTarget constructor
+	 *
+	 * @param type type of {@link #type}
+	 * @param name name of {@link #name}
+	 * @param command command of {@link #command}
+	 * @param crosspoint crosspoint of {@link #crosspoint}
+	 * @param input input of {@link #input}
+	 * @param currentValueKey currentValueKey of {@link #currentValueKey}
+	 */
+	private ControlTarget(PropertiesControlList type, String name, String command, AudioCrosspoint crosspoint, AudioInput input, String currentValueKey) {
+		this.type = type;
+		this.name = name;
+		this.command = command;
+		this.crosspoint = crosspoint;
+		this.input = input;
+		this.currentValueKey = currentValueKey;
+	}
+
+	/**
+	 * Register the target of the property
+	 *
+	 * @param property the property is name of controllable property
+	 * @param target the target is ControlTarget instance
+	 */
+	private static void register(String property, ControlTarget target) {
+		TARGETS.put(property, target);
+	}
+
+	/**
+	 * Get the target of the controllable property
+	 *
+	 * @param property the property is name of controllable property, e.g. LineOutLeft#Volume(dB)
+	 * @return ControlTarget is ControlTarget instance, null if the property isn't controllable
+	 */
+	public static ControlTarget resolve(String property) {
+		return property == null ? null : TARGETS.get(property);
+	}
+
+	/**
+	 * Retrieves {@link #type}
+	 *
+	 * @return value of {@link #type}
+	 */
+	public PropertiesControlList getType() {
+		return type;
+	}
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #command}
+	 *
+	 * @return value of {@link #command}, the value has to be appended
+	 */
+	public String getCommand() {
+		return command;
+	}
+
+	/**
+	 * Retrieves {@link #crosspoint}
+	 *
+	 * @return value of {@link #crosspoint}, null if the property doesn't belong to an audio output
+	 */
+	public AudioCrosspoint getCrosspoint() {
+		return crosspoint;
+	}
+
+	/**
+	 * Retrieves {@link #input}
+	 *
+	 * @return value of {@link #input}, null if the property doesn't belong to an audio input
+	 */
+	public AudioInput getInput() {
+		return input;
+	}
+
+	/**
+	 * Retrieves {@link #currentValueKey}
+	 *
+	 * @return value of {@link #currentValueKey}, null if the property has no current value
+	 */
+	public String getCurrentValueKey() {
+		return currentValueKey;
+	}
+}
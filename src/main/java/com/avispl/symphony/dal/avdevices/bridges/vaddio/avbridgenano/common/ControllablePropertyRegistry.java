@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+
+/**
+ * ControllablePropertyRegistry class keeps the controllable properties indexed by name,
+ * so a property is added, replaced or removed in constant time and rendered to the list expected by Symphony
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class ControllablePropertyRegistry {
+
+	private final Map<String, AdvancedControllableProperty> properties = new LinkedHashMap<>();
+
+	/**
+	 * ControllablePropertyRegistry constructor
+	 */
+	public ControllablePropertyRegistry() {
+	}
+
+	/**
+	 * ControllablePropertyRegistry constructor
+	 *
+	 * @param advancedControllableProperties the advancedControllableProperties are controllable properties to index, may be null
+	 */
+	public ControllablePropertyRegistry(List<AdvancedControllableProperty> advancedControllableProperties) {
+		if (advancedControllableProperties != null) {
+			for (AdvancedControllableProperty advancedControllableProperty : advancedControllableProperties) {
+				upsert(advancedControllableProperty);
+			}
+		}
+	}
+
+	/**
+	 * Add the property or replace the property with the same name
+	 *
+	 * @param advancedControllableProperty the advancedControllableProperty is AdvancedControllableProperty instance
+	 */
+	public void upsert(AdvancedControllableProperty advancedControllableProperty) {
+		properties.put(advancedControllableProperty.getName(), advancedControllableProperty);
+	}
+
+	/**
+	 * Add or replace every property of the other registry
+	 *
+	 * @param registry the registry is ControllablePropertyRegistry instance
+	 */
+	public void upsertAll(ControllablePropertyRegistry registry) {
+		properties.putAll(registry.properties);
+	}
+
+	/**
+	 * Get the property by name
+	 *
+	 * @param name the name is name of the property
+	 * @return AdvancedControllableProperty is AdvancedControllableProperty instance, null if the property doesn't exist
+	 */
+	public AdvancedControllableProperty get(String name) {
+		return properties.get(name);
+	}
+
+	/**
+	 * Remove the property by name
+	 *
+	 * @param name the name is name of the property
+	 */
+	public void remove(String name) {
+		properties.remove(name);
+	}
+
+	/**
+	 * Render the properties to a list
+	 *
+	 * @return List of AdvancedControllableProperty in insertion order
+	 */
+	public List<AdvancedControllableProperty> toList() {
+		return new ArrayList<>(properties.values());
+	}
+}
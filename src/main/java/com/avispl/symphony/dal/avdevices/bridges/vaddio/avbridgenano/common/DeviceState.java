@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * DeviceState class keeps the typed audio and video state of the device.
+ * Responses are parsed once when they arrive, statistics and controls are rendered from the typed values
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class DeviceState {
+
+	/**
+	 * route bitmask of a crosspoint whose enabled routes haven't been retrieved yet
+	 */
+	public static final int UNKNOWN_ROUTES = -1;
+
+	/**
+	 * Slot of the state that a group of properties is stored in
+	 */
+	private static final class Slot {
+		private final AudioCommandType type;
+		private final VaddioCommand command;
+		private final AudioCrosspoint crosspoint;
+		private final AudioInput input;
+
+		private Slot(AudioCommandType type, VaddioCommand command, AudioCrosspoint crosspoint, AudioInput input) {
+			this.type = type;
+			this.command = command;
+			this.crosspoint = crosspoint;
+			this.input = input;
+		}
+	}
+
+	/**
+	 * Index of group name of properties and the slot it's stored in
+	 */
+	private static final Map<String, Slot> SLOTS = new HashMap<>();
+
+	static {
+		SLOTS.put(VaddioCommand.VIDEO_MUTE.getName(), new Slot(null, VaddioCommand.VIDEO_MUTE, null, null));
+		SLOTS.put(VaddioCommand.AUDIO_MUTE.getName(), new Slot(null, VaddioCommand.AUDIO_MUTE, null, null));
+		for (AudioInput input : AudioInput.values()) {
+			SLOTS.put(PropertyKeyTable.inputVolumeKey(input), new Slot(AudioCommandType.VOLUME, null, null, input));
+			SLOTS.put(PropertyKeyTable.inputMuteKey(input), new Slot(AudioCommandType.MUTE, null, null, input));
+		}
+		for (AudioCrosspoint crosspoint : AudioCrosspoint.values()) {
+			SLOTS.put(PropertyKeyTable.outputVolumeKey(crosspoint), new Slot(AudioCommandType.VOLUME, null, crosspoint, null));
+			SLOTS.put(PropertyKeyTable.outputMuteKey(crosspoint), new Slot(AudioCommandType.MUTE, null, crosspoint, null));
+			SLOTS.put(PropertyKeyTable.enabledRoutesKey(crosspoint), new Slot(AudioCommandType.ROUTE, null, crosspoint, null));
+			for (AudioInput input : AudioInput.values()) {
+				SLOTS.put(PropertyKeyTable.crosspointGainKey(crosspoint, input), new Slot(AudioCommandType.CROSSPOINT_GAIN, null, crosspoint, input));
+			}
+		}
+	}
+
+	private final EnumMap<AudioInput, Float> inputVolumes = new EnumMap<>(AudioInput.class);
+	private final EnumMap<AudioInput, Boolean> inputMutes = new EnumMap<>(AudioInput.class);
+	private final EnumMap<AudioCrosspoint, Float> outputVolumes = new EnumMap<>(AudioCrosspoint.class);
+	private final EnumMap<AudioCrosspoint, Boolean> outputMutes = new EnumMap<>(AudioCrosspoint.class);
+
+	/**
+	 * crosspoint gain indexed by {@link AudioCrosspoint} and {@link AudioInput} ordinal, NaN if unknown
+	 */
+	private final float[][] gains = new float[AudioCrosspoint.values().length][AudioInput.values().length];
+
+	/**
+	 * enabled routes of each {@link AudioCrosspoint}, bit n is set if {@link AudioInput} with ordinal n is routed,
+	 * {@link #UNKNOWN_ROUTES} until the routes are retrieved
+	 */
+	private final int[] routes = new int[AudioCrosspoint.values().length];
+
+	private Boolean videoMute;
+	private Boolean masterMute;
+
+	/**
+	 * DeviceState constructor
+	 */
+	public DeviceState() {
+		clear();
+	}
+
+	/**
+	 * Parse the response of the group into the typed state
+	 *
+	 * @param group the group is group name of properties
+	 * @param response the response is response received from device
+	 * @return boolean true if the group is kept in the typed state
+	 */
+	public boolean update(String group, String response) {
+		Slot slot = SLOTS.get(group);
+		if (slot == null) {
+			return false;
+		}
+		if (slot.command != null) {
+			if (VaddioCommand.VIDEO_MUTE.equals(slot.command)) {
+				videoMute = parseMute(response);
+			} else {
+				masterMute = parseMute(response);
+			}
+			return true;
+		}
+		switch (slot.type) {
+			case VOLUME:
+				setVolume(slot, parseVolume(response));
+				break;
+			case MUTE:
+				setMute(slot, parseMute(response));
+				break;
+			case CROSSPOINT_GAIN:
+				gains[slot.crosspoint.ordinal()][slot.input.ordinal()] = parseGain(response);
+				break;
+			case ROUTE:
+				routes[slot.crosspoint.ordinal()] = parseRoutes(response);
+				break;
+			default:
+				break;
+		}
+		return true;
+	}
+
+	/**
+	 * Set the mute state of the group after a successful control
+	 *
+	 * @param group the group is group name of properties
+	 * @param mute the mute is new mute state
+	 */
+	public void setMute(String group, boolean mute) {
+		Slot slot = SLOTS.get(group);
+		if (slot != null && AudioCommandType.MUTE.equals(slot.type)) {
+			setMute(slot, mute);
+		}
+	}
+
+	/**
+	 * Set the volume of the group after a successful control
+	 *
+	 * @param group the group is group name of properties
+	 * @param volume the volume is new volume in dB
+	 */
+	public void setVolume(String group, float volume) {
+		Slot slot = SLOTS.get(group);
+		if (slot != null && AudioCommandType.VOLUME.equals(slot.type)) {
+			setVolume(slot, volume);
+		}
+	}
+
+	/**
+	 * Set the crosspoint gain after a successful control
+	 *
+	 * @param crosspoint the crosspoint is output of the matrix
+	 * @param input the input is input of the matrix
+	 * @param gain the gain is new gain in dB
+	 */
+	public void setGain(AudioCrosspoint crosspoint, AudioInput input, float gain) {
+		gains[crosspoint.ordinal()][input.ordinal()] = gain;
+	}
+
+	/**
+	 * Set the enabled routes of the crosspoint
+	 *
+	 * @param crosspoint the crosspoint is output of the matrix
+	 * @param routeMask the routeMask is bitmask of routed inputs
+	 */
+	public void setRoutes(AudioCrosspoint crosspoint, int routeMask) {
+		routes[crosspoint.ordinal()] = routeMask;
+	}
+
+	/**
+	 * Clear all values of the state
+	 */
+	public void clear() {
+		inputVolumes.clear();
+		inputMutes.clear();
+		outputVolumes.clear();
+		outputMutes.clear();
+		for (float[] row : gains) {
+			Arrays.fill(row, Float.NaN);
+		}
+		Arrays.fill(routes, UNKNOWN_ROUTES);
+		videoMute = null;
+		masterMute = null;
+	}
+
+	/**
+	 * Retrieves volume of the input
+	 *
+	 * @param input the input is audio input
+	 * @return Float volume in dB, null if unknown
+	 */
+	public Float getInputVolume(AudioInput input) {
+		return inputVolumes.get(input);
+	}
+
+	/**
+	 * Retrieves mute state of the input
+	 *
+	 * @param input the input is audio input
+	 * @return Boolean mute state, null if unknown
+	 */
+	public Boolean getInputMute(AudioInput input) {
+		return inputMutes.get(input);
+	}
+
+	/**
+	 * Retrieves volume of the output
+	 *
+	 * @param crosspoint the crosspoint is audio output
+	 * @return Float volume in dB, null if unknown
+	 */
+	public Float getOutputVolume(AudioCrosspoint crosspoint) {
+		return outputVolumes.get(crosspoint);
+	}
+
+	/**
+	 * Retrieves mute state of the output
+	 *
+	 * @param crosspoint the crosspoint is audio output
+	 * @return Boolean mute state, null if unknown
+	 */
+	public Boolean getOutputMute(AudioCrosspoint crosspoint) {
+		return outputMutes.get(crosspoint);
+	}
+
+	/**
+	 * Retrieves crosspoint gain
+	 *
+	 * @param crosspoint the crosspoint is output of the matrix
+	 * @param input the input is input of the matrix
+	 * @return float gain in dB, NaN if unknown
+	 */
+	public float getGain(AudioCrosspoint crosspoint, AudioInput input) {
+		return gains[crosspoint.ordinal()][input.ordinal()];
+	}
+
+	/**
+	 * Retrieves bitmask of the enabled routes of the crosspoint
+	 *
+	 * @param crosspoint the crosspoint is output of the matrix
+	 * @return int bitmask of routed inputs, {@link #UNKNOWN_ROUTES} if unknown
+	 */
+	public int getRoutes(AudioCrosspoint crosspoint) {
+		return routes[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Check if the enabled routes of the crosspoint are known
+	 *
+	 * @param crosspoint the crosspoint is output of the matrix
+	 * @return boolean (true/false)
+	 */
+	public boolean hasRoutes(AudioCrosspoint crosspoint) {
+		return routes[crosspoint.ordinal()] != UNKNOWN_ROUTES;
+	}
+
+	/**
+	 * Check if the input is routed to the crosspoint
+	 *
+	 * @param crosspoint the crosspoint is output of the matrix
+	 * @param input the input is input of the matrix
+	 * @return boolean (true/false)
+	 */
+	public boolean isRouted(AudioCrosspoint crosspoint, AudioInput input) {
+		return hasRoutes(crosspoint) && (routes[crosspoint.ordinal()] & routeBit(input)) != 0;
+	}
+
+	/**
+	 * Retrieves {@link #videoMute}
+	 *
+	 * @return value of {@link #videoMute}, null if unknown
+	 */
+	public Boolean getVideoMute() {
+		return videoMute;
+	}
+
+	/**
+	 * Sets {@link #videoMute} value
+	 *
+	 * @param videoMute new value of {@link #videoMute}
+	 */
+	public void setVideoMute(Boolean videoMute) {
+		this.videoMute = videoMute;
+	}
+
+	/**
+	 * Retrieves {@link #masterMute}
+	 *
+	 * @return value of {@link #masterMute}, null if unknown
+	 */
+	public Boolean getMasterMute() {
+		return masterMute;
+	}
+
+	/**
+	 * Sets {@link #masterMute} value
+	 *
+	 * @param masterMute new value of {@link #masterMute}
+	 */
+	public void setMasterMute(Boolean masterMute) {
+		this.masterMute = masterMute;
+	}
+
+	/**
+	 * Retrieves the bit of the input in a route bitmask
+	 *
+	 * @param input the input is input of the matrix
+	 * @return int bit of the input
+	 */
+	public static int routeBit(AudioInput input) {
+		return 1 << input.ordinal();
+	}
+
+	/**
+	 * Convert a route bitmask to the list of inputs accepted by the route set command
+	 *
+	 * @param routeMask the routeMask is bitmask of routed inputs
+	 * @return String inputs separated by space
+	 */
+	public static String toRouteList(int routeMask) {
+		StringBuilder routeList = new StringBuilder();
+		for (AudioInput input : AudioInput.values()) {
+			if ((routeMask & routeBit(input)) != 0) {
+				if (routeList.length() > 0) {
+					routeList.append(VaddioNanoConstant.SPACE);
+				}
+				routeList.append(input.getValue());
+			}
+		}
+		return routeList.toString();
+	}
+
+	private void setVolume(Slot slot, Float volume) {
+		if (slot.input != null) {
+			inputVolumes.put(slot.input, volume);
+		} else {
+			outputVolumes.put(slot.crosspoint, volume);
+		}
+	}
+
+	private void setMute(Slot slot, Boolean mute) {
+		if (slot.input != null) {
+			inputMutes.put(slot.input, mute);
+		} else {
+			outputMutes.put(slot.crosspoint, mute);
+		}
+	}
+
+	/**
+	 * Parse volume response
+	 *
+	 * @param response the response is response received from device
+	 * @return Float volume in dB, null if the response has no volume
+	 */
+	private static Float parseVolume(String response) {
+		String value = ResponseParser.extractValue(response, VaddioNanoConstant.VOLUME_LABEL).split(VaddioNanoConstant.SPACE)[0];
+		try {
+			return VaddioNanoConstant.NONE.equalsIgnoreCase(value) ? null : Float.parseFloat(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Parse mute response
+	 *
+	 * @param response the response is response received from device
+	 * @return boolean true if the response is mute on
+	 */
+	private static boolean parseMute(String response) {
+		return VaddioNanoConstant.ON.equalsIgnoreCase(ResponseParser.extractValue(response, VaddioNanoConstant.MUTE_LABEL));
+	}
+
+	/**
+	 * Parse crosspoint gain response
+	 *
+	 * @param response the response is response received from device
+	 * @return float gain in dB, NaN if the response has no gain
+	 */
+	private static float parseGain(String response) {
+		String value = ResponseParser.parseResponseByCommandGain(response);
+		try {
+			return VaddioNanoConstant.NONE.equalsIgnoreCase(value) ? Float.NaN : Float.parseFloat(value);
+		} catch (NumberFormatException e) {
+			return Float.NaN;
+		}
+	}
+
+	/**
+	 * Parse route response
+	 *
+	 * @param response the response is response received from device
+	 * @return int bitmask of routed inputs, {@link #UNKNOWN_ROUTES} if the response has no route list
+	 */
+	private static int parseRoutes(String response) {
+		String value = ResponseParser.parseResponseByCommandGain(response);
+		if (VaddioNanoConstant.NONE.equalsIgnoreCase(value)) {
+			return UNKNOWN_ROUTES;
+		}
+		int routeMask = 0;
+		for (String token : value.replace("[", VaddioNanoConstant.SPACE).replace("]", VaddioNanoConstant.SPACE).trim().split("\\s+")) {
+			for (AudioInput input : AudioInput.values()) {
+				if (input.getValue().equalsIgnoreCase(token)) {
+					routeMask |= routeBit(input);
+				}
+			}
+		}
+		return routeMask;
+	}
+}
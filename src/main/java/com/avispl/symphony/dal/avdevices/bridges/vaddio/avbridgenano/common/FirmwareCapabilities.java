@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FirmwareCapabilities class keeps the commands rejected by a firmware version, the capabilities are cached per firmware string
+ * and shared by every device running it, so a command learned as unsupported is pruned from the polling plan of the devices
+ * and of the sessions which probe the same firmware later. A rejected command is not sent again until
+ * {@link VaddioNanoConstant#UNSUPPORTED_COMMAND_RETRY_INTERVAL} has elapsed, so a wrongly pruned command is probed again later
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class FirmwareCapabilities {
+
+	/**
+	 * cache of the capabilities of every firmware version probed by the adapter
+	 */
+	private static final Map<String, FirmwareCapabilities> CAPABILITIES_BY_FIRMWARE = new ConcurrentHashMap<>();
+
+	private final String firmwareVersion;
+
+	/**
+	 * time each rejected command can be sent again at
+	 */
+	private final Map<String, Long> unsupportedCommands = new ConcurrentHashMap<>();
+
+	/**
+	 * FirmwareCapabilities constructor
+	 *
+	 * @param firmwareVersion firmware version of {@link #firmwareVersion}
+	 */
+	private FirmwareCapabilities(String firmwareVersion) {
+		this.firmwareVersion = firmwareVersion;
+	}
+
+	/**
+	 * Get the cached capabilities of the firmware version, they are created empty the first time the version is probed
+	 *
+	 * @param firmwareVersion the firmwareVersion is system version reported by the device
+	 * @return FirmwareCapabilities is FirmwareCapabilities instance shared by the devices running the firmware
+	 */
+	public static FirmwareCapabilities forFirmware(String firmwareVersion) {
+		return CAPABILITIES_BY_FIRMWARE.computeIfAbsent(firmwareVersion, FirmwareCapabilities::new);
+	}
+
+	/**
+	 * Check if the command is supported by the firmware, a rejected command is supported again once its retry interval has elapsed
+	 *
+	 * @param command the command is command to send to the device
+	 * @param now the now is current time in milliseconds
+	 * @return boolean (true/false)
+	 */
+	public boolean isSupported(String command, long now) {
+		String key = command.trim();
+		Long retryTime = unsupportedCommands.get(key);
+		if (retryTime == null) {
+			return true;
+		}
+		if (now < retryTime) {
+			return false;
+		}
+		unsupportedCommands.remove(key, retryTime);
+		return true;
+	}
+
+	/**
+	 * Mark the command as rejected by the firmware
+	 *
+	 * @param command the command is command rejected by the device
+	 * @param now the now is current time in milliseconds
+	 */
+	public void markUnsupported(String command, long now) {
+		unsupportedCommands.put(command.trim(), now + VaddioNanoConstant.UNSUPPORTED_COMMAND_RETRY_INTERVAL);
+	}
+
+	/**
+	 * Retrieves {@link #firmwareVersion}
+	 *
+	 * @return value of {@link #firmwareVersion}
+	 */
+	public String getFirmwareVersion() {
+		return firmwareVersion;
+	}
+
+	/**
+	 * Retrieves number of the commands rejected by the firmware whose retry interval hasn't elapsed
+	 *
+	 * @param now the now is current time in milliseconds
+	 * @return int number of unsupported commands
+	 */
+	public int getUnsupportedCommandCount(long now) {
+		unsupportedCommands.values().removeIf(retryTime -> now >= retryTime);
+		return unsupportedCommands.size();
+	}
+}
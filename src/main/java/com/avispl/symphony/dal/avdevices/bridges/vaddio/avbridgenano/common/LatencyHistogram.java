@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * LatencyHistogram class counts latencies in microseconds into fixed log-linear buckets, in the manner of HdrHistogram.
+ * Values below {@link #SUB_BUCKET_COUNT} are counted exactly, larger values in buckets of 1/{@link #HALF_SUB_BUCKET_COUNT} of their power of two,
+ * so a percentile is precise to about 6%. Recording a value allocates nothing
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+
+	/**
+	 * highest power of two counted in its own bucket, larger values are counted in the last bucket
+	 */
+	private static final int MAX_MAGNITUDE = 40;
+	private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS + 1) * HALF_SUB_BUCKET_COUNT;
+
+	private final long[] counts = new long[BUCKET_COUNT];
+	private long totalCount;
+	private long maxValue;
+
+	/**
+	 * Record a latency
+	 *
+	 * @param value the value is latency in microseconds
+	 */
+	public synchronized void record(long value) {
+		long latency = Math.max(value, 0);
+		counts[indexOf(latency)]++;
+		totalCount++;
+		maxValue = Math.max(maxValue, latency);
+	}
+
+	/**
+	 * Retrieves the latency which the percentage of the recorded latencies are lower than or equal to
+	 *
+	 * @param percentile the percentile is percentage between 0 and 100
+	 * @return long latency in microseconds, the highest value of its bucket, or 0 if nothing is recorded
+	 */
+	public synchronized long getValueAtPercentile(double percentile) {
+		if (totalCount == 0) {
+			return 0;
+		}
+		long rank = Math.max((long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * totalCount), 1);
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += counts[i];
+			if (count >= rank) {
+				return Math.min(highestValueOf(i), maxValue);
+			}
+		}
+		return maxValue;
+	}
+
+	/**
+	 * Get index of the bucket counting the value
+	 *
+	 * @param value the value is latency in microseconds
+	 * @return int index of the bucket
+	 */
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int) value;
+		}
+		int magnitude = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_MAGNITUDE);
+		int shift = magnitude - SUB_BUCKET_BITS + 1;
+		int subBucket = (int) Math.min(value >>> shift, SUB_BUCKET_COUNT - 1);
+		return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + subBucket - HALF_SUB_BUCKET_COUNT;
+	}
+
+	/**
+	 * Get the highest value counted by the bucket
+	 *
+	 * @param index the index is index of the bucket
+	 * @return long latency in microseconds
+	 */
+	private static long highestValueOf(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+		long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+		return ((subBucket + 1) << shift) - 1;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * MonitoredGroup class defined the groups of properties which can be selected for monitoring.
+ * An audio output of the crosspoint matrix can also be selected alone by {@link #CROSSPOINT_MATRIX} prefix followed by the output name,
+ * e.g. CrosspointHDMIOutLeft. The levels groups contain the volumes only, the mutes are selected by {@link #INPUT_MUTES} and {@link #OUTPUT_MUTES}
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public enum MonitoredGroup {
+
+	STREAMING_SETTINGS("StreamingSettings", false),
+	NETWORK_SETTINGS("NetworkSettings", false),
+	SYSTEM_VERSION("SystemVersion", false),
+	MASTER_MUTE("MasterMute", true),
+	INPUT_LEVELS("InputLevels", true),
+	INPUT_MUTES("InputMutes", true),
+	OUTPUT_LEVELS("OutputLevels", true),
+	OUTPUT_MUTES("OutputMutes", true),
+	CROSSPOINT_MATRIX("CrosspointMatrix", true),
+	;
+
+	/**
+	 * MonitoredGroup constructor
+	 *
+	 * @param name name of {@link #name}
+	 * @param control control of {@link #control}
+	 */
+	MonitoredGroup(String name, boolean control) {
+		this.name = name;
+		this.control = control;
+	}
+
+	private final String name;
+	private final boolean control;
+
+	/**
+	 * Retrieves {@link #name}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@link #control}
+	 *
+	 * @return value of {@link #control}, true if the group is monitored only when config management is enabled
+	 */
+	public boolean isControl() {
+		return control;
+	}
+
+	/**
+	 * Get monitored group by name
+	 *
+	 * @param name is name of the monitored group
+	 * @return MonitoredGroup is MonitoredGroup instance, null if the name doesn't match
+	 */
+	public static MonitoredGroup getByName(String name) {
+		for (MonitoredGroup monitoredGroup : MonitoredGroup.values()) {
+			if (monitoredGroup.getName().equalsIgnoreCase(name)) {
+				return monitoredGroup;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * MonitoringPlan class defined which commands, audio inputs, audio outputs and crosspoints are monitored.
+ * It's compiled from the config management flag and the comma separated list of {@link MonitoredGroup} names.
+ * Without a list, every group is monitored when config management is enabled, and only the monitoring commands otherwise
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class MonitoringPlan {
+
+	private final EnumSet<VaddioCommand> commands = EnumSet.noneOf(VaddioCommand.class);
+	private final EnumSet<AudioInput> inputVolumes = EnumSet.noneOf(AudioInput.class);
+	private final EnumSet<AudioInput> inputMutes = EnumSet.noneOf(AudioInput.class);
+	private final EnumSet<AudioCrosspoint> outputVolumes = EnumSet.noneOf(AudioCrosspoint.class);
+	private final EnumSet<AudioCrosspoint> outputMutes = EnumSet.noneOf(AudioCrosspoint.class);
+	private final EnumSet<AudioCrosspoint> crosspoints = EnumSet.noneOf(AudioCrosspoint.class);
+	private final List<String> unknownGroups = new ArrayList<>();
+
+	/**
+	 * Compile the monitoring plan
+	 *
+	 * @param configManagement the configManagement is true if the controllable groups can be monitored
+	 * @param monitoredGroups the monitoredGroups are comma separated names of monitored groups, every group is monitored if it's empty
+	 * @return MonitoringPlan is MonitoringPlan instance
+	 */
+	public static MonitoringPlan compile(boolean configManagement, String monitoredGroups) {
+		MonitoringPlan plan = new MonitoringPlan();
+		if (monitoredGroups == null || monitoredGroups.trim().isEmpty()) {
+			for (MonitoredGroup monitoredGroup : MonitoredGroup.values()) {
+				if (configManagement || !monitoredGroup.isControl()) {
+					plan.add(monitoredGroup);
+				}
+			}
+			return plan;
+		}
+		for (String name : monitoredGroups.split(VaddioNanoConstant.COMMA)) {
+			name = name.trim();
+			if (name.isEmpty()) {
+				continue;
+			}
+			MonitoredGroup monitoredGroup = MonitoredGroup.getByName(name);
+			AudioCrosspoint crosspoint = null;
+			if (monitoredGroup == null && name.startsWith(VaddioNanoConstant.CROSSPOINT_GAIN)) {
+				crosspoint = AudioCrosspoint.getByName(name.substring(VaddioNanoConstant.CROSSPOINT_GAIN.length()));
+			}
+			if (monitoredGroup == null && crosspoint == null) {
+				plan.unknownGroups.add(name);
+				continue;
+			}
+			if (!configManagement && (crosspoint != null || monitoredGroup.isControl())) {
+				continue;
+			}
+			if (crosspoint != null) {
+				plan.crosspoints.add(crosspoint);
+			} else {
+				plan.add(monitoredGroup);
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Add the commands and audio groups of the monitored group
+	 *
+	 * @param monitoredGroup the monitoredGroup is MonitoredGroup instance
+	 */
+	private void add(MonitoredGroup monitoredGroup) {
+		switch (monitoredGroup) {
+			case STREAMING_SETTINGS:
+				commands.add(VaddioCommand.STREAM_MODE);
+				commands.add(VaddioCommand.STREAM_SETTINGS);
+				break;
+			case NETWORK_SETTINGS:
+				commands.add(VaddioCommand.NETWORK_INFO);
+				break;
+			case SYSTEM_VERSION:
+				commands.add(VaddioCommand.VERSION);
+				break;
+			case MASTER_MUTE:
+				commands.add(VaddioCommand.VIDEO_MUTE);
+				commands.add(VaddioCommand.AUDIO_MUTE);
+				break;
+			case INPUT_LEVELS:
+				inputVolumes.addAll(EnumSet.allOf(AudioInput.class));
+				break;
+			case INPUT_MUTES:
+				inputMutes.addAll(EnumSet.allOf(AudioInput.class));
+				break;
+			case OUTPUT_LEVELS:
+				outputVolumes.addAll(EnumSet.allOf(AudioCrosspoint.class));
+				break;
+			case OUTPUT_MUTES:
+				outputMutes.addAll(EnumSet.allOf(AudioCrosspoint.class));
+				break;
+			case CROSSPOINT_MATRIX:
+				crosspoints.addAll(EnumSet.allOf(AudioCrosspoint.class));
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Check if the command is monitored
+	 *
+	 * @param command the command is VaddioCommand instance
+	 * @return boolean (true/false)
+	 */
+	public boolean isMonitored(VaddioCommand command) {
+		return commands.contains(command);
+	}
+
+	/**
+	 * Check if the volume of the audio input is monitored
+	 *
+	 * @param input the input is AudioInput instance
+	 * @return boolean (true/false)
+	 */
+	public boolean isVolumeMonitored(AudioInput input) {
+		return inputVolumes.contains(input);
+	}
+
+	/**
+	 * Check if the mute of the audio input is monitored
+	 *
+	 * @param input the input is AudioInput instance
+	 * @return boolean (true/false)
+	 */
+	public boolean isMuteMonitored(AudioInput input) {
+		return inputMutes.contains(input);
+	}
+
+	/**
+	 * Check if the volume of the audio output is monitored
+	 *
+	 * @param output the output is AudioCrosspoint instance
+	 * @return boolean (true/false)
+	 */
+	public boolean isVolumeMonitored(AudioCrosspoint output) {
+		return outputVolumes.contains(output);
+	}
+
+	/**
+	 * Check if the mute of the audio output is monitored
+	 *
+	 * @param output the output is AudioCrosspoint instance
+	 * @return boolean (true/false)
+	 */
+	public boolean isMuteMonitored(AudioCrosspoint output) {
+		return outputMutes.contains(output);
+	}
+
+	/**
+	 * Check if the gains and routes of the audio output are monitored
+	 *
+	 * @param output the output is AudioCrosspoint instance
+	 * @return boolean (true/false)
+	 */
+	public boolean isCrosspointMonitored(AudioCrosspoint output) {
+		return crosspoints.contains(output);
+	}
+
+	/**
+	 * Retrieves names which don't match any monitored group
+	 *
+	 * @return List of names
+	 */
+	public List<String> getUnknownGroups() {
+		return Collections.unmodifiableList(unknownGroups);
+	}
+}
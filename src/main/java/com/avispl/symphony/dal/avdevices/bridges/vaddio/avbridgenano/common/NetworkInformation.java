@@ -5,7 +5,7 @@
 package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
 
 /**
- * NetworkEnum class provides all regex and name of network interface
+ * NetworkEnum class provides all label and name of network interface
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 11/6/2023
@@ -13,13 +13,13 @@ package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
  */
 public enum NetworkInformation {
 
-	INTERFACE_NAME(VaddioNanoConstant.INTERFACE_NAME, "Name(.*?)\r\n"),
-	MAC_ADDRESS(VaddioNanoConstant.MAC_ADDRESS, "MAC Address(.*?)\r\n"),
-	IP_ADDRESS(VaddioNanoConstant.IP_ADDRESS, "IP Address(.*?)\r\n"),
-	SUBNET_MASK(VaddioNanoConstant.SUBNET_MASK, "Netmask(.*?)\r\n"),
-	VLAN(VaddioNanoConstant.VLAN, "VLAN(.*?)\r\n"),
-	GATEWAY(VaddioNanoConstant.GATEWAY, "Gateway(.*?)\r\n"),
-	HOSTNAME(VaddioNanoConstant.HOSTNAME, "Hostname(.*?)\r\n");
+	INTERFACE_NAME(VaddioNanoConstant.INTERFACE_NAME, "Name"),
+	MAC_ADDRESS(VaddioNanoConstant.MAC_ADDRESS, "MAC Address"),
+	IP_ADDRESS(VaddioNanoConstant.IP_ADDRESS, "IP Address"),
+	SUBNET_MASK(VaddioNanoConstant.SUBNET_MASK, "Netmask"),
+	VLAN(VaddioNanoConstant.VLAN, "VLAN"),
+	GATEWAY(VaddioNanoConstant.GATEWAY, "Gateway"),
+	HOSTNAME(VaddioNanoConstant.HOSTNAME, "Hostname");
 
 	/**
 	 * Constructor Instance
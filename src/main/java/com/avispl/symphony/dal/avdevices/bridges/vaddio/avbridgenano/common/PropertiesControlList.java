@@ -18,7 +18,9 @@ public enum PropertiesControlList {
 	VIDEO_MUTE(VaddioNanoConstant.VIDEO_MUTE),
 	SYSTEM_REBOOT(VaddioNanoConstant.SYSTEM_REBOOT),
 	STREAM_MODE(VaddioNanoConstant.STREAM_MODE),
-	AUDIO_MUTE(VaddioNanoConstant.AUDIO_MUTE);
+	AUDIO_MUTE(VaddioNanoConstant.AUDIO_MUTE),
+	CROSSPOINT_GAIN(VaddioNanoConstant.GAIN),
+	CROSSPOINT_ROUTE(VaddioNanoConstant.ROUTES);
 
 	/**
 	 * PropertiesControlList constructor
@@ -39,19 +41,4 @@ public enum PropertiesControlList {
 	public String getName() {
 		return name;
 	}
-
-	/**
-	 * Get control name by value
-	 *
-	 * @param value the value is name of ControlGroupName
-	 * @return PropertiesControlList is PropertiesControlList enum instance
-	 */
-	public static PropertiesControlList getControlGroupNameByValue(String value) {
-		for (PropertiesControlList controlGroup : PropertiesControlList.values()) {
-			if (controlGroup.getName().equalsIgnoreCase(value)) {
-				return controlGroup;
-			}
-		}
-		return null;
-	}
 }
\ No newline at end of file
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * PropertyKeyTable class defined the property names and commands of the audio inputs, outputs and the crosspoint matrix,
+ * they are built once at class load and indexed by {@link AudioCrosspoint} and {@link AudioInput} ordinals
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public final class PropertyKeyTable {
+
+	private static final int CROSSPOINT_COUNT = AudioCrosspoint.values().length;
+	private static final int INPUT_COUNT = AudioInput.values().length;
+
+	private static final String[] INPUT_VOLUME_KEYS = new String[INPUT_COUNT];
+	private static final String[] INPUT_VOLUME_CURRENT_VALUE_KEYS = new String[INPUT_COUNT];
+	private static final String[] INPUT_MUTE_KEYS = new String[INPUT_COUNT];
+	private static final String[] INPUT_VOLUME_COMMANDS = new String[INPUT_COUNT];
+	private static final String[] INPUT_MUTE_COMMANDS = new String[INPUT_COUNT];
+
+	private static final String[] OUTPUT_VOLUME_KEYS = new String[CROSSPOINT_COUNT];
+	private static final String[] OUTPUT_VOLUME_CURRENT_VALUE_KEYS = new String[CROSSPOINT_COUNT];
+	private static final String[] OUTPUT_MUTE_KEYS = new String[CROSSPOINT_COUNT];
+	private static final String[] OUTPUT_VOLUME_COMMANDS = new String[CROSSPOINT_COUNT];
+	private static final String[] OUTPUT_MUTE_COMMANDS = new String[CROSSPOINT_COUNT];
+
+	private static final String[] ENABLED_ROUTES_KEYS = new String[CROSSPOINT_COUNT];
+	private static final String[] ROUTES_GET_COMMANDS = new String[CROSSPOINT_COUNT];
+	private static final String[] ROUTES_SET_COMMANDS = new String[CROSSPOINT_COUNT];
+
+	private static final String[][] CROSSPOINT_GAIN_KEYS = new String[CROSSPOINT_COUNT][INPUT_COUNT];
+	private static final String[][] CROSSPOINT_GAIN_CURRENT_VALUE_KEYS = new String[CROSSPOINT_COUNT][INPUT_COUNT];
+	private static final String[][] CROSSPOINT_ROUTE_KEYS = new String[CROSSPOINT_COUNT][INPUT_COUNT];
+	private static final String[][] CROSSPOINT_GAIN_GET_COMMANDS = new String[CROSSPOINT_COUNT][INPUT_COUNT];
+	private static final String[][] CROSSPOINT_GAIN_SET_COMMANDS = new String[CROSSPOINT_COUNT][INPUT_COUNT];
+
+	static {
+		for (AudioInput input : AudioInput.values()) {
+			int i = input.ordinal();
+			String group = input.getPropertyName() + VaddioNanoConstant.HASH;
+			String command = VaddioNanoConstant.AUDIO_COMMAND + input.getValue();
+			INPUT_VOLUME_KEYS[i] = group + VaddioNanoConstant.VOLUME;
+			INPUT_VOLUME_CURRENT_VALUE_KEYS[i] = group + VaddioNanoConstant.VOLUME_CURRENT_VALUE;
+			INPUT_MUTE_KEYS[i] = group + VaddioNanoConstant.MUTE;
+			INPUT_VOLUME_COMMANDS[i] = command + VaddioNanoConstant.VOLUME_COMMAND;
+			INPUT_MUTE_COMMANDS[i] = command + VaddioNanoConstant.MUTE_COMMAND;
+		}
+		for (AudioCrosspoint crosspoint : AudioCrosspoint.values()) {
+			int c = crosspoint.ordinal();
+			String group = crosspoint.getName() + VaddioNanoConstant.HASH;
+			String command = crosspoint.getCommand();
+			OUTPUT_VOLUME_KEYS[c] = group + VaddioNanoConstant.VOLUME;
+			OUTPUT_VOLUME_CURRENT_VALUE_KEYS[c] = group + VaddioNanoConstant.VOLUME_CURRENT_VALUE;
+			OUTPUT_MUTE_KEYS[c] = group + VaddioNanoConstant.MUTE;
+			OUTPUT_VOLUME_COMMANDS[c] = command + VaddioNanoConstant.VOLUME_COMMAND;
+			OUTPUT_MUTE_COMMANDS[c] = command + VaddioNanoConstant.MUTE_COMMAND;
+
+			String crosspointGroup = VaddioNanoConstant.CROSSPOINT_GAIN + group;
+			ENABLED_ROUTES_KEYS[c] = crosspointGroup + VaddioNanoConstant.ENABLED_ROUTES;
+			ROUTES_GET_COMMANDS[c] = command + VaddioNanoConstant.ROUTES_COMMAND;
+			ROUTES_SET_COMMANDS[c] = command + VaddioNanoConstant.ROUTES_CONTROL;
+			for (AudioInput input : AudioInput.values()) {
+				int i = input.ordinal();
+				CROSSPOINT_GAIN_KEYS[c][i] = crosspointGroup + input.getPropertyName() + VaddioNanoConstant.GAIN;
+				CROSSPOINT_GAIN_CURRENT_VALUE_KEYS[c][i] = crosspointGroup + input.getPropertyName() + VaddioNanoConstant.GAIN_CURRENT_VALUE;
+				CROSSPOINT_ROUTE_KEYS[c][i] = crosspointGroup + input.getPropertyName() + VaddioNanoConstant.ROUTES;
+				CROSSPOINT_GAIN_GET_COMMANDS[c][i] = command + VaddioNanoConstant.GAIN_COMMAND + input.getValue() + VaddioNanoConstant.GET;
+				CROSSPOINT_GAIN_SET_COMMANDS[c][i] = command + VaddioNanoConstant.GAIN_COMMAND + input.getValue() + VaddioNanoConstant.SET;
+			}
+		}
+	}
+
+	private PropertyKeyTable() {
+	}
+
+	/**
+	 * Retrieves volume property name of the audio input, e.g. LineInLeft#Volume(dB)
+	 *
+	 * @param input the input is AudioInput instance
+	 * @return String is property name
+	 */
+	public static String inputVolumeKey(AudioInput input) {
+		return INPUT_VOLUME_KEYS[input.ordinal()];
+	}
+
+	/**
+	 * Retrieves volume current value property name of the audio input
+	 *
+	 * @param input the input is AudioInput instance
+	 * @return String is property name
+	 */
+	public static String inputVolumeCurrentValueKey(AudioInput input) {
+		return INPUT_VOLUME_CURRENT_VALUE_KEYS[input.ordinal()];
+	}
+
+	/**
+	 * Retrieves mute property name of the audio input
+	 *
+	 * @param input the input is AudioInput instance
+	 * @return String is property name
+	 */
+	public static String inputMuteKey(AudioInput input) {
+		return INPUT_MUTE_KEYS[input.ordinal()];
+	}
+
+	/**
+	 * Retrieves volume get command of the audio input
+	 *
+	 * @param input the input is AudioInput instance
+	 * @return String is command
+	 */
+	public static String inputVolumeCommand(AudioInput input) {
+		return INPUT_VOLUME_COMMANDS[input.ordinal()];
+	}
+
+	/**
+	 * Retrieves mute get command of the audio input
+	 *
+	 * @param input the input is AudioInput instance
+	 * @return String is command
+	 */
+	public static String inputMuteCommand(AudioInput input) {
+		return INPUT_MUTE_COMMANDS[input.ordinal()];
+	}
+
+	/**
+	 * Retrieves volume property name of the audio output, e.g. LineOutLeft#Volume(dB)
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is property name
+	 */
+	public static String outputVolumeKey(AudioCrosspoint crosspoint) {
+		return OUTPUT_VOLUME_KEYS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves volume current value property name of the audio output
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is property name
+	 */
+	public static String outputVolumeCurrentValueKey(AudioCrosspoint crosspoint) {
+		return OUTPUT_VOLUME_CURRENT_VALUE_KEYS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves mute property name of the audio output
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is property name
+	 */
+	public static String outputMuteKey(AudioCrosspoint crosspoint) {
+		return OUTPUT_MUTE_KEYS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves volume get command of the audio output
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is command
+	 */
+	public static String outputVolumeCommand(AudioCrosspoint crosspoint) {
+		return OUTPUT_VOLUME_COMMANDS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves mute get command of the audio output
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is command
+	 */
+	public static String outputMuteCommand(AudioCrosspoint crosspoint) {
+		return OUTPUT_MUTE_COMMANDS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves group name of the enabled routes of the audio output, e.g. CrosspointLineOutLeft#EnabledRoutes
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is group name
+	 */
+	public static String enabledRoutesKey(AudioCrosspoint crosspoint) {
+		return ENABLED_ROUTES_KEYS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves route get command of the audio output
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is command
+	 */
+	public static String routesGetCommand(AudioCrosspoint crosspoint) {
+		return ROUTES_GET_COMMANDS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves route set command of the audio output, the route list has to be appended
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @return String is command
+	 */
+	public static String routesSetCommand(AudioCrosspoint crosspoint) {
+		return ROUTES_SET_COMMANDS[crosspoint.ordinal()];
+	}
+
+	/**
+	 * Retrieves gain property name of the crosspoint, e.g. CrosspointLineOutLeft#LineInLeftGain(dB)
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @param input the input is AudioInput instance
+	 * @return String is property name
+	 */
+	public static String crosspointGainKey(AudioCrosspoint crosspoint, AudioInput input) {
+		return CROSSPOINT_GAIN_KEYS[crosspoint.ordinal()][input.ordinal()];
+	}
+
+	/**
+	 * Retrieves gain current value property name of the crosspoint
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @param input the input is AudioInput instance
+	 * @return String is property name
+	 */
+	public static String crosspointGainCurrentValueKey(AudioCrosspoint crosspoint, AudioInput input) {
+		return CROSSPOINT_GAIN_CURRENT_VALUE_KEYS[crosspoint.ordinal()][input.ordinal()];
+	}
+
+	/**
+	 * Retrieves route property name of the crosspoint, e.g. CrosspointLineOutLeft#LineInLeftRoute
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @param input the input is AudioInput instance
+	 * @return String is property name
+	 */
+	public static String crosspointRouteKey(AudioCrosspoint crosspoint, AudioInput input) {
+		return CROSSPOINT_ROUTE_KEYS[crosspoint.ordinal()][input.ordinal()];
+	}
+
+	/**
+	 * Retrieves gain get command of the crosspoint
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @param input the input is AudioInput instance
+	 * @return String is command
+	 */
+	public static String crosspointGainGetCommand(AudioCrosspoint crosspoint, AudioInput input) {
+		return CROSSPOINT_GAIN_GET_COMMANDS[crosspoint.ordinal()][input.ordinal()];
+	}
+
+	/**
+	 * Retrieves gain set command of the crosspoint, the gain value has to be appended
+	 *
+	 * @param crosspoint the crosspoint is AudioCrosspoint instance
+	 * @param input the input is AudioInput instance
+	 * @return String is command
+	 */
+	public static String crosspointGainSetCommand(AudioCrosspoint crosspoint, AudioInput input) {
+		return CROSSPOINT_GAIN_SET_COMMANDS[crosspoint.ordinal()][input.ordinal()];
+	}
+}
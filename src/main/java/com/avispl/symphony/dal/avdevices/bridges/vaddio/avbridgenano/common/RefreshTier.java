@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+/**
+ * RefreshTier class defined how often the response of a monitoring command has to be retrieved again
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public enum RefreshTier {
+
+	STATIC(VaddioNanoConstant.DEFAULT_STATIC_REFRESH_INTERVAL),
+	SLOW(VaddioNanoConstant.DEFAULT_SLOW_REFRESH_INTERVAL),
+	FAST(VaddioNanoConstant.DEFAULT_FAST_REFRESH_INTERVAL),
+	;
+
+	/**
+	 * RefreshTier constructor
+	 *
+	 * @param defaultInterval default interval of {@link #defaultInterval}
+	 */
+	RefreshTier(long defaultInterval) {
+		this.defaultInterval = defaultInterval;
+	}
+
+	private final long defaultInterval;
+
+	/**
+	 * Retrieves {@link #defaultInterval}
+	 *
+	 * @return value of {@link #defaultInterval} in milliseconds
+	 */
+	public long getDefaultInterval() {
+		return defaultInterval;
+	}
+}
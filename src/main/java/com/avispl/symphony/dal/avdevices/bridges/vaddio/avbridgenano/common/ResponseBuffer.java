@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ResponseBuffer class collects the output of the SSH channel as it arrives. ANSI escape sequences are dropped byte by byte
+ * and the {@link VaddioNanoConstant#PROMPT} terminators are counted in the same pass, so the response needs no further cleanup
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class ResponseBuffer {
+
+	private static final byte ESCAPE = 0x1B;
+	private static final byte CONTROL_SEQUENCE_INTRODUCER = '[';
+	private static final byte PROMPT_MARK = '>';
+	private static final byte PROMPT_SPACE = ' ';
+
+	private static final int TEXT = 0;
+	private static final int ESCAPE_SEQUENCE = 1;
+	private static final int CONTROL_SEQUENCE = 2;
+
+	private byte[] data = new byte[1024];
+	private int length;
+	private int state = TEXT;
+	private int promptCount;
+
+	/**
+	 * Clear the buffer before reading a new response
+	 */
+	public void reset() {
+		length = 0;
+		state = TEXT;
+		promptCount = 0;
+	}
+
+	/**
+	 * Append the bytes read from the channel, escape sequences are dropped even if they are split between two reads
+	 *
+	 * @param bytes the bytes are bytes read from the channel
+	 * @param offset the offset is start of the bytes
+	 * @param count the count is number of bytes
+	 */
+	public void write(byte[] bytes, int offset, int count) {
+		if (length + count > data.length) {
+			data = Arrays.copyOf(data, Math.max(data.length << 1, length + count));
+		}
+		for (int i = offset; i < offset + count; i++) {
+			byte b = bytes[i];
+			switch (state) {
+				case ESCAPE_SEQUENCE:
+					state = b == CONTROL_SEQUENCE_INTRODUCER ? CONTROL_SEQUENCE : TEXT;
+					break;
+				case CONTROL_SEQUENCE:
+					// parameter and intermediate bytes are below 0x40, the final byte ends the sequence
+					if (b >= 0x40 && b <= 0x7E) {
+						state = TEXT;
+					}
+					break;
+				default:
+					if (b == ESCAPE) {
+						state = ESCAPE_SEQUENCE;
+						break;
+					}
+					if (b == PROMPT_SPACE && length > 0 && data[length - 1] == PROMPT_MARK) {
+						promptCount++;
+					}
+					data[length++] = b;
+					break;
+			}
+		}
+	}
+
+	/**
+	 * Check if the response received so far ends with the suffix
+	 *
+	 * @param suffix the suffix is ASCII text
+	 * @return boolean (true/false)
+	 */
+	public boolean endsWith(String suffix) {
+		int suffixLength = suffix.length();
+		if (suffixLength > length) {
+			return false;
+		}
+		int start = length - suffixLength;
+		for (int i = 0; i < suffixLength; i++) {
+			if (data[start + i] != (byte) suffix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves number of prompts received so far
+	 *
+	 * @return int number of prompts
+	 */
+	public int getPromptCount() {
+		return promptCount;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return new String(data, 0, length, StandardCharsets.UTF_8);
+	}
+}
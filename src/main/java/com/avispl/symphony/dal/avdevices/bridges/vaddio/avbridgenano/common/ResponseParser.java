@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ResponseParser class tokenizes a device response line by line and extracts the value that follows each label.
+ * The value of a label is the rest of the first "\r\n" terminated line containing the label, trimmed
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class ResponseParser {
+
+	/**
+	 * Tokenize the response once into an index of label and value
+	 *
+	 * @param response the response is response of device
+	 * @param labels the labels are labels to extract from the response
+	 * @return Map of label and value, a label which isn't found in the response is absent from the map
+	 */
+	public static Map<String, String> parse(String response, String... labels) {
+		Map<String, String> values = new HashMap<>();
+		if (response == null) {
+			return values;
+		}
+		int start = 0;
+		int end = response.indexOf(VaddioNanoConstant.NEW_LINE);
+		while (end >= 0 && values.size() < labels.length) {
+			String line = response.substring(start, end);
+			for (String label : labels) {
+				if (!values.containsKey(label)) {
+					String value = findValue(line, label);
+					if (value != null) {
+						values.put(label, value);
+					}
+				}
+			}
+			start = end + VaddioNanoConstant.NEW_LINE.length();
+			end = response.indexOf(VaddioNanoConstant.NEW_LINE, start);
+		}
+		return values;
+	}
+
+	/**
+	 * Extract the value of a single label from the response
+	 *
+	 * @param response the response is response of device
+	 * @param label the label is label to extract from the response
+	 * @return String is value of the label, None if the label isn't found
+	 */
+	public static String extractValue(String response, String label) {
+		if (response == null) {
+			return VaddioNanoConstant.NONE;
+		}
+		int index = response.indexOf(label);
+		while (index >= 0) {
+			int valueStart = index + label.length();
+			int end = response.indexOf(VaddioNanoConstant.NEW_LINE, valueStart);
+			if (end < 0) {
+				return VaddioNanoConstant.NONE;
+			}
+			if (!hasLineTerminator(response, valueStart, end)) {
+				return response.substring(valueStart, end).trim();
+			}
+			index = response.indexOf(label, index + 1);
+		}
+		return VaddioNanoConstant.NONE;
+	}
+
+	/**
+	 * Parse response data by command, the value is the line following the echoed command
+	 *
+	 * @param response the response is response received from device
+	 * @return String the string is the extracted response
+	 */
+	public static String parseResponseByCommandGain(String response) {
+		if (response == null || VaddioNanoConstant.NONE.equalsIgnoreCase(response)) {
+			return VaddioNanoConstant.NONE;
+		}
+		try {
+			String value = response.substring(response.indexOf(VaddioNanoConstant.SPACE) + 1);
+			String[] arrayValue = value.split(VaddioNanoConstant.NEW_LINE);
+			return arrayValue[1].trim();
+		} catch (Exception e) {
+			return VaddioNanoConstant.NONE;
+		}
+	}
+
+	/**
+	 * Fingerprint the response by its length and hash code, responses with different fingerprints are different
+	 *
+	 * @param response the response is response of device
+	 * @return long is fingerprint of the response
+	 */
+	public static long fingerprint(String response) {
+		return ((long) response.length() << 32) | (response.hashCode() & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Find the value following the label in a line
+	 *
+	 * @param line the line is a line of the response without its "\r\n" terminator
+	 * @param label the label is label to extract from the line
+	 * @return String is value of the label, null if the label isn't found
+	 */
+	private static String findValue(String line, String label) {
+		int index = line.indexOf(label);
+		while (index >= 0) {
+			int valueStart = index + label.length();
+			if (!hasLineTerminator(line, valueStart, line.length())) {
+				return line.substring(valueStart).trim();
+			}
+			index = line.indexOf(label, index + 1);
+		}
+		return null;
+	}
+
+	/**
+	 * Check if a stray line terminator is in the range of the text
+	 *
+	 * @param text the text is text to check
+	 * @param start the start is start index, inclusive
+	 * @param end the end is end index, exclusive
+	 * @return boolean (true/false)
+	 */
+	private static boolean hasLineTerminator(String text, int start, int end) {
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c == '\r' || c == '\n') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
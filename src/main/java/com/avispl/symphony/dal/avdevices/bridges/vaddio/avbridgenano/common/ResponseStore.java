@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ResponseStore class keeps the latest response of each group of a device on disk, so the device state can be restored
+ * after a restart before the device is polled. The file is a version header followed by length-prefixed pairs of group and response,
+ * it's written to a temporary file and moved over the previous one so a crash never leaves a partial file behind
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+public class ResponseStore {
+
+	private static final int FORMAT_VERSION = 1;
+	private static final String FILE_PREFIX = "vaddio-avbridge-nano-";
+	private static final String FILE_SUFFIX = ".state";
+
+	/**
+	 * a response is stored as modified UTF-8 of at most 65535 bytes, one char takes up to 3 bytes
+	 */
+	private static final int MAX_RESPONSE_LENGTH = 65535 / 3;
+
+	private final Path file;
+
+	/**
+	 * ResponseStore constructor
+	 *
+	 * @param directory the directory is directory of the state files
+	 * @param host the host is host of the device, the state file is named after it
+	 */
+	public ResponseStore(String directory, String host) {
+		this.file = Paths.get(directory, FILE_PREFIX + host.replaceAll("[^A-Za-z0-9.-]", "_") + FILE_SUFFIX);
+	}
+
+	/**
+	 * Load the responses stored for the device
+	 *
+	 * @return Map of group and response, empty if nothing is stored or the file has another format version
+	 * @throws IOException if the file can't be read
+	 */
+	public Map<String, String> load() throws IOException {
+		Map<String, String> responses = new LinkedHashMap<>();
+		if (!Files.isRegularFile(file)) {
+			return responses;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				return responses;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String group = in.readUTF();
+				responses.put(group, in.readUTF());
+			}
+		}
+		return responses;
+	}
+
+	/**
+	 * Replace the responses stored for the device, a response longer than {@link #MAX_RESPONSE_LENGTH} isn't stored
+	 *
+	 * @param responses the responses are map of group and response
+	 * @throws IOException if the file can't be written
+	 */
+	public void save(Map<String, String> responses) throws IOException {
+		Files.createDirectories(file.getParent());
+		Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), null);
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+				int count = 0;
+				for (Map.Entry<String, String> entry : responses.entrySet()) {
+					if (isStorable(entry)) {
+						count++;
+					}
+				}
+				out.writeInt(FORMAT_VERSION);
+				out.writeInt(count);
+				for (Map.Entry<String, String> entry : responses.entrySet()) {
+					if (isStorable(entry)) {
+						out.writeUTF(entry.getKey());
+						out.writeUTF(entry.getValue());
+					}
+				}
+			}
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temporaryFile);
+		}
+	}
+
+	/**
+	 * Check if the group and response fit in the file format
+	 *
+	 * @param entry the entry is group and response
+	 * @return boolean (true/false)
+	 */
+	private static boolean isStorable(Map.Entry<String, String> entry) {
+		return entry.getKey().length() <= MAX_RESPONSE_LENGTH && entry.getValue().length() <= MAX_RESPONSE_LENGTH;
+	}
+}
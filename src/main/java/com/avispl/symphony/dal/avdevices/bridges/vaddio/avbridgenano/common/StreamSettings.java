@@ -5,7 +5,7 @@
 package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
 
 /**
- * StreamSettings class provides all regex and name of Streaming settings
+ * StreamSettings class provides all label and name of Streaming settings
  *
  * @author Kevin / Symphony Dev Team<br>
  * Created on 11/6/2023
@@ -13,20 +13,20 @@ package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
  */
 public enum StreamSettings {
 
-	IP_PRESET_RESOLUTION(VaddioNanoConstant.IP_PRESET_RESOLUTION, "IP Preset_Resolution(.*?)\r\n", true),
-	IP_BIT_RATE_MODE(VaddioNanoConstant.IP_BIT_RATE_MODE, "IP Bit_Rate_Mode(.*?)\r\n", true),
-	IP_MAX_BANDWIDTH(VaddioNanoConstant.IP_MAX_BANDWIDTH, "IP Max_Bandwidth(.*?)\r\n", true),
-	IP_RTMP_PORT(VaddioNanoConstant.IP_RTMP_PORT, "IP RTMP_Port(.*?)\r\n", true),
-	IP_RTMP_SERVICE(VaddioNanoConstant.IP_RTMP_SERVICE, "IP RTMP_SERVICE(.*?)\r\n", true),
-	IP_RTSP_MTU(VaddioNanoConstant.IP_RTSP_MTU, "IP RTSP_MTU(.*?)\r\n", true),
-	IP_RTSP_PORT(VaddioNanoConstant.IP_RTSP_PORT, "IP RTSP_Port(.*?)\r\n", true),
-	IP_RTSP_URL(VaddioNanoConstant.IP_RTSP_URL, "IP RTSP_URL(.*?)\r\n", true),
-	IP_STREAMING_ENABLED(VaddioNanoConstant.IP_STREAMING_ENABLED, "IP Streaming_Enabled(.*?)\r\n", true),
-	HID_AUDIO_CONTROLS_ENABLED(VaddioNanoConstant.HID_AUDIO_CONTROLS_ENABLED, "HID Audio_Controls_Enabled(.*?)\r\n", false),
-	USB_DEVICE(VaddioNanoConstant.USB_DEVICE, "USB Device(.*?)\r\n", false),
-	IP_CUSTOM_RESOLUTION(VaddioNanoConstant.IP_CUSTOM_RESOLUTION, "IP Custom_Resolution(.*?)\r\n", true),
-	IP_VIDEO_QUALITY(VaddioNanoConstant.IP_VIDEO_QUALITY, "IP Video_Quality(.*?)\r\n", true),
-	IP_PROTOCOL(VaddioNanoConstant.IP_PROTOCOL, "IP Protocol(.*?)\r\n", true),
+	IP_PRESET_RESOLUTION(VaddioNanoConstant.IP_PRESET_RESOLUTION, "IP Preset_Resolution", true),
+	IP_BIT_RATE_MODE(VaddioNanoConstant.IP_BIT_RATE_MODE, "IP Bit_Rate_Mode", true),
+	IP_MAX_BANDWIDTH(VaddioNanoConstant.IP_MAX_BANDWIDTH, "IP Max_Bandwidth", true),
+	IP_RTMP_PORT(VaddioNanoConstant.IP_RTMP_PORT, "IP RTMP_Port", true),
+	IP_RTMP_SERVICE(VaddioNanoConstant.IP_RTMP_SERVICE, "IP RTMP_SERVICE", true),
+	IP_RTSP_MTU(VaddioNanoConstant.IP_RTSP_MTU, "IP RTSP_MTU", true),
+	IP_RTSP_PORT(VaddioNanoConstant.IP_RTSP_PORT, "IP RTSP_Port", true),
+	IP_RTSP_URL(VaddioNanoConstant.IP_RTSP_URL, "IP RTSP_URL", true),
+	IP_STREAMING_ENABLED(VaddioNanoConstant.IP_STREAMING_ENABLED, "IP Streaming_Enabled", true),
+	HID_AUDIO_CONTROLS_ENABLED(VaddioNanoConstant.HID_AUDIO_CONTROLS_ENABLED, "HID Audio_Controls_Enabled", false),
+	USB_DEVICE(VaddioNanoConstant.USB_DEVICE, "USB Device", false),
+	IP_CUSTOM_RESOLUTION(VaddioNanoConstant.IP_CUSTOM_RESOLUTION, "IP Custom_Resolution", true),
+	IP_VIDEO_QUALITY(VaddioNanoConstant.IP_VIDEO_QUALITY, "IP Video_Quality", true),
+	IP_PROTOCOL(VaddioNanoConstant.IP_PROTOCOL, "IP Protocol", true),
 	;
 
 	/**
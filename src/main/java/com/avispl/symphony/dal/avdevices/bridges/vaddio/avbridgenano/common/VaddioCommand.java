@@ -13,12 +13,12 @@ package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
  */
 public enum VaddioCommand {
 
-	STREAM_MODE("StreamingMode", "streaming mode get", true),
-	NETWORK_INFO("NetworkSettings", "network settings get", true),
-	VERSION("SystemVersion", "version", true),
-	VIDEO_MUTE("VideoMute", "video mute get", false),
-	AUDIO_MUTE("AudioMute", "audio master mute get", false),
-	STREAM_SETTINGS("StreamingSettings", "streaming settings get", true),
+	STREAM_MODE("StreamingMode", "streaming mode get", true, RefreshTier.SLOW),
+	NETWORK_INFO("NetworkSettings", "network settings get", true, RefreshTier.STATIC),
+	VERSION("SystemVersion", "version", true, RefreshTier.STATIC),
+	VIDEO_MUTE("VideoMute", "video mute get", false, RefreshTier.FAST),
+	AUDIO_MUTE("AudioMute", "audio master mute get", false, RefreshTier.FAST),
+	STREAM_SETTINGS("StreamingSettings", "streaming settings get", true, RefreshTier.SLOW),
 	;
 	public static final String STREAMING_MODE = "streaming mode set ";
 	public static final String SYSTEM_REBOOT = "system reboot";
@@ -30,16 +30,20 @@ public enum VaddioCommand {
 	 *
 	 * @name name of {@link #name}
 	 * @command command of {@link #command}
+	 * @command isMonitoring of {@link #isMonitoring}
+	 * @command refreshTier of {@link #refreshTier}
 	 */
-	VaddioCommand(String name, String command, boolean isMonitoring) {
+	VaddioCommand(String name, String command, boolean isMonitoring, RefreshTier refreshTier) {
 		this.name = name;
 		this.command = command;
 		this.isMonitoring = isMonitoring;
+		this.refreshTier = refreshTier;
 	}
 
 	private String name;
 	private String command;
 	private boolean isMonitoring;
+	private RefreshTier refreshTier;
 
 	/**
 	 * Retrieves {@link #name}
@@ -67,4 +71,13 @@ public enum VaddioCommand {
 	public boolean isMonitoring() {
 		return isMonitoring;
 	}
+
+	/**
+	 * Retrieves {@link #refreshTier}
+	 *
+	 * @return value of {@link #refreshTier}
+	 */
+	public RefreshTier getRefreshTier() {
+		return refreshTier;
+	}
 }
\ No newline at end of file
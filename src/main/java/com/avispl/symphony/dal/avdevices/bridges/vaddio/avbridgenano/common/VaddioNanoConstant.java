@@ -53,11 +53,11 @@ public class VaddioNanoConstant {
 	public static final String VOLUME_CURRENT_VALUE = "VolumeCurrentValue(dB)";
 	public static final String GAIN = "Gain(dB)";
 	public static final String GAIN_CURRENT_VALUE = "GainCurrentValue(dB)";
-	public static final String REGEX_RESPONSE = "\u001B|\\[|0;37m|0m";
-	public static final String VOLUME_REGEX = "volume:(.*?)\r\n";
-	public static final String MUTE_REGEX = "mute:(.*?)\r\n";
+	public static final String VOLUME_LABEL = "volume:";
+	public static final String MUTE_LABEL = "mute:";
 	public static final String EMPTY = "";
 	public static final String SPACE = " ";
+	public static final String COMMA = ",";
 	public static final String SYSTEM_REBOOT = "SystemReboot";
 	public static final String REBOOT = "Reboot Now";
 	public static final String REBOOTING = "Rebooting";
@@ -70,9 +70,8 @@ public class VaddioNanoConstant {
 	public static final String IP = "IP";
 	public static final String AUDIO_VERSION = "AudioVersion";
 	public static final String ERROR_RESPONSE = "Syntax error";
-	public static final String AUDIO_REGEX = "Audio(.*?)\r\n";
-	public static final String VIDEO_MUTE_REGEX = "mute:(.*?)\r\n";
-	public static final String SYSTEM_VERSION_REGEX = "System Version(.*?)\r\n";
+	public static final String AUDIO_LABEL = "Audio";
+	public static final String SYSTEM_VERSION_LABEL = "System Version";
 	public static final String GAIN_COMMAND = " crosspoint-gain ";
 	public static final String ROUTES_COMMAND = " route get";
 	public static final String ROUTES_CONTROL = " route set ";
@@ -92,4 +91,40 @@ public class VaddioNanoConstant {
 	public static final String MIN_GAIN = "-12";
 	public static final String MAX_GAIN = "12";
 	public static final String ROUTE_MESSAGE = "invalid routing";
+	public static final String PROMPT = "> ";
+	public static final String CARRIAGE_RETURN = "\r";
+	public static final String NEW_LINE = "\r\n";
+	public static final int MAX_PIPELINED_COMMANDS = 16;
+	public static final int DEFAULT_COMMANDS_PER_POLL = 0;
+	public static final long DEFAULT_POLL_TIME_BUDGET = 0;
+	public static final long DEFAULT_POLLING_INTERVAL = 30000;
+	public static final long MIN_POLLING_INTERVAL = 5000;
+	public static final long MIN_WAITING_TIME = 1000;
+	public static final long RETRIEVE_STATISTICS_TIMEOUT = 180000;
+	public static final long WORKER_TERMINATION_TIMEOUT = 10000;
+	public static final long DEFAULT_STATIC_REFRESH_INTERVAL = 3600000;
+	public static final long DEFAULT_SLOW_REFRESH_INTERVAL = 60000;
+	public static final long DEFAULT_FAST_REFRESH_INTERVAL = 0;
+	public static final long KEEPALIVE_INTERVAL = 15000;
+	public static final long READ_POLL_INTERVAL = 100;
+	public static final long MIN_RECONNECT_BACKOFF = 1000;
+	public static final long MAX_RECONNECT_BACKOFF = 60000;
+	public static final String ADAPTER_METRICS = "AdapterMetrics";
+	public static final String SESSION_AGE = "SessionAge(s)";
+	public static final String SESSION_RECONNECT_COUNT = "SessionReconnectCount";
+	public static final String POLL_DURATION = "PollDuration(ms)";
+	public static final String COMMANDS_PER_POLL = "CommandsPerPoll";
+	public static final String COMMAND_TIMEOUT_COUNT = "CommandTimeoutCount";
+	public static final String LATENCY_P50 = "LatencyP50(ms)";
+	public static final String LATENCY_P95 = "LatencyP95(ms)";
+	public static final String LATENCY_P99 = "LatencyP99(ms)";
+	public static final String POLL_STATUS = "PollStatus";
+	public static final String STALE = "Stale";
+	public static final String STALE_GROUPS = "StaleGroups";
+	public static final String COMMAND_CIRCUIT_BREAKER = "CommandCircuitBreaker";
+	public static final String UNSUPPORTED_COMMAND_COUNT = "UnsupportedCommandCount";
+	public static final int CIRCUIT_BREAKER_FAILURE_THRESHOLD = 3;
+	public static final long MIN_CIRCUIT_BREAKER_BACKOFF = 60000;
+	public static final long MAX_CIRCUIT_BREAKER_BACKOFF = 3600000;
+	public static final long UNSUPPORTED_COMMAND_RETRY_INTERVAL = 21600000;
 }
\ No newline at end of file
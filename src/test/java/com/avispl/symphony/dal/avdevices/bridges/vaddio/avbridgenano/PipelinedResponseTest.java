@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PipelinedResponseTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class PipelinedResponseTest {
+
+	private final List<Map.Entry<String, String>> batch = Arrays.asList(
+			new AbstractMap.SimpleEntry<>("VideoMute", "video mute get"),
+			new AbstractMap.SimpleEntry<>("AudioMute", "audio master mute get"));
+
+	/**
+	 * Test the output of a pipelined batch
+	 *
+	 * Expect one response per command, in the order of the batch and ending with the prompt
+	 */
+	@Test
+	void testSplitResponse() {
+		String response = "video mute get\r\nmute: off\r\nOK\r\n> audio master mute get\r\nmute: on\r\nOK\r\n> ";
+		List<String> responses = VaddioBridgeNanoCommunicator.splitPipelinedResponse(response, batch);
+		Assertions.assertEquals(Arrays.asList("video mute get\r\nmute: off\r\nOK\r\n> ", "audio master mute get\r\nmute: on\r\nOK\r\n> "), responses);
+	}
+
+	/**
+	 * Test the output of a pipelined batch missing a prompt
+	 *
+	 * Expect an empty list so the commands are sent one by one
+	 */
+	@Test
+	void testMissingPrompt() {
+		String response = "video mute get\r\nmute: off\r\nOK\r\n> audio master mute get\r\nmute: on\r\nOK";
+		Assertions.assertTrue(VaddioBridgeNanoCommunicator.splitPipelinedResponse(response, batch).isEmpty());
+	}
+
+	/**
+	 * Test the output of a pipelined batch whose segment doesn't echo its command
+	 *
+	 * Expect an empty list so the commands are sent one by one
+	 */
+	@Test
+	void testUnexpectedOrder() {
+		String response = "audio master mute get\r\nmute: on\r\nOK\r\n> video mute get\r\nmute: off\r\nOK\r\n> ";
+		Assertions.assertTrue(VaddioBridgeNanoCommunicator.splitPipelinedResponse(response, batch).isEmpty());
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PollSliceSelectionTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class PollSliceSelectionTest {
+
+	/**
+	 * Test a budget of 0
+	 *
+	 * Expect every expired command is sent
+	 */
+	@Test
+	void testNoBudget() {
+		Map<String, String> commands = createCommands("A", "B", "C");
+		Map<String, String> slice = VaddioBridgeNanoCommunicator.selectPollSlice(commands, Collections.emptySet(), new HashMap<>(), 0, false);
+		Assertions.assertEquals(commands, slice);
+	}
+
+	/**
+	 * Test more expired commands than the budget
+	 *
+	 * Expect the least recently refreshed groups are selected, groups never retrieved first and in plan order
+	 */
+	@Test
+	void testLeastRecentlyRefreshedFirst() {
+		Map<String, String> commands = createCommands("A", "B", "C", "D");
+		Map<String, Long> retrievedTimes = new HashMap<>();
+		retrievedTimes.put("A", 300L);
+		retrievedTimes.put("B", 100L);
+		Map<String, String> slice = VaddioBridgeNanoCommunicator.selectPollSlice(commands, Collections.emptySet(), retrievedTimes, 3, false);
+		Assertions.assertEquals(Arrays.asList("C", "D", "B"), new ArrayList<>(slice.keySet()));
+	}
+
+	/**
+	 * Test priority groups when the expired commands don't fit in the budget
+	 *
+	 * Expect the priority groups are selected before older groups
+	 */
+	@Test
+	void testPriorityGroupsFirst() {
+		Map<String, String> commands = createCommands("A", "B", "C", "Mute");
+		Map<String, Long> retrievedTimes = new HashMap<>();
+		retrievedTimes.put("Mute", 500L);
+		Map<String, String> slice = VaddioBridgeNanoCommunicator.selectPollSlice(commands, Collections.singleton("Mute"), retrievedTimes, 2, false);
+		Assertions.assertEquals(Arrays.asList("Mute", "A"), new ArrayList<>(slice.keySet()));
+	}
+
+	/**
+	 * Test 16 priority groups which expire on every poll, with slow and static groups after them and a budget of 10
+	 *
+	 * Expect the priority groups take half of every poll and the slow and static groups are all selected within a few polls
+	 */
+	@Test
+	void testPriorityGroupsDontStarveOthers() {
+		Set<String> priorityGroups = new LinkedHashSet<>();
+		for (int i = 0; i < 16; i++) {
+			priorityGroups.add("Mute" + i);
+		}
+		Set<String> otherGroups = new LinkedHashSet<>(Arrays.asList("StreamingMode", "NetworkSettings", "SystemVersion", "StreamingSettings",
+				"Volume0", "Volume1", "Volume2", "Gain0", "Gain1", "Route0", "Route1", "Route2"));
+		Map<String, Long> retrievedTimes = new HashMap<>();
+		Set<String> selectedOthers = new HashSet<>();
+		for (long poll = 1; poll <= 4; poll++) {
+			Map<String, String> commands = new LinkedHashMap<>();
+			for (String group : priorityGroups) {
+				commands.put(group, group.toLowerCase() + " get");
+			}
+			for (String group : otherGroups) {
+				if (!retrievedTimes.containsKey(group)) {
+					commands.put(group, group.toLowerCase() + " get");
+				}
+			}
+			Map<String, String> slice = VaddioBridgeNanoCommunicator.selectPollSlice(commands, priorityGroups, retrievedTimes, 10, false);
+			Assertions.assertEquals(10, slice.size());
+			Assertions.assertTrue(slice.keySet().stream().filter(priorityGroups::contains).count() >= 5);
+			for (String group : slice.keySet()) {
+				retrievedTimes.put(group, poll);
+				if (otherGroups.contains(group)) {
+					selectedOthers.add(group);
+				}
+			}
+		}
+		Assertions.assertEquals(otherGroups, selectedOthers);
+	}
+
+	/**
+	 * Test two time limited polls without a command budget, the deadline of the first one is reached after 3 commands
+	 *
+	 * Expect the second poll starts with the commands the first one didn't reach
+	 */
+	@Test
+	void testTimeLimitedCarryOver() {
+		Map<String, String> commands = createCommands("A", "B", "C", "D", "E", "F");
+		Map<String, Long> retrievedTimes = new HashMap<>();
+		Map<String, String> firstPoll = VaddioBridgeNanoCommunicator.selectPollSlice(commands, Collections.emptySet(), retrievedTimes, 0, true);
+		Assertions.assertEquals(Arrays.asList("A", "B", "C", "D", "E", "F"), new ArrayList<>(firstPoll.keySet()));
+		for (String group : new ArrayList<>(firstPoll.keySet()).subList(0, 3)) {
+			retrievedTimes.put(group, 100L);
+		}
+		Map<String, String> secondPoll = VaddioBridgeNanoCommunicator.selectPollSlice(commands, Collections.emptySet(), retrievedTimes, 0, true);
+		Assertions.assertEquals(Arrays.asList("D", "E", "F", "A", "B", "C"), new ArrayList<>(secondPoll.keySet()));
+	}
+
+	/**
+	 * Create map of group name and command in plan order
+	 *
+	 * @param groups the groups are group names
+	 * @return Map of group name and command
+	 */
+	private Map<String, String> createCommands(String... groups) {
+		Map<String, String> commands = new LinkedHashMap<>();
+		for (String group : groups) {
+			commands.put(group, group.toLowerCase() + " get");
+		}
+		return commands;
+	}
+}
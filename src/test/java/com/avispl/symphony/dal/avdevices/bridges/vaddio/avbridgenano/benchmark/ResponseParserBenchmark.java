@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.NetworkInformation;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.ResponseParser;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.StreamSettings;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.VaddioNanoConstant;
+
+/**
+ * ResponseParserBenchmark compares {@link ResponseParser} with the previous regex extraction,
+ * which compiled one pattern per field and rescanned the whole response for each of them
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseParserBenchmark {
+
+	private static final String STREAMING_SETTINGS_RESPONSE = "streaming settings get\r\n"
+			+ "IP Bit_Rate_Mode           Variable\r\n"
+			+ "IP Custom_Resolution       480p/25\r\n"
+			+ "IP Max_Bandwidth           4000000\r\n"
+			+ "IP Preset_Resolution       360p\r\n"
+			+ "IP Protocol                false\r\n"
+			+ "IP RTMP_Port               1935\r\n"
+			+ "IP RTMP_SERVICE            Service 1\r\n"
+			+ "IP RTSP_MTU                1400\r\n"
+			+ "IP RTSP_Port               554\r\n"
+			+ "IP RTSP_URL                vaddio-avb-nano-stream\r\n"
+			+ "IP Streaming_Enabled       true\r\n"
+			+ "IP Video_Quality           High Quality (Best)\r\n"
+			+ "HID Audio_Controls_Enabled true\r\n"
+			+ "USB Device                 AV Bridge Nano\r\n"
+			+ "> ";
+
+	private static final String NETWORK_SETTINGS_RESPONSE = "network settings get\r\n"
+			+ "Name                 eth0:WAN\r\n"
+			+ "MAC Address          FC:69:47:E9:35:6B\r\n"
+			+ "IP Address           172.31.254.176\r\n"
+			+ "Netmask              255.255.255.0\r\n"
+			+ "VLAN                 Disabled\r\n"
+			+ "Gateway              172.31.254.1\r\n"
+			+ "Hostname             vaddio-avbn-FC-69-47-E9-35-6B\r\n"
+			+ "> ";
+
+	private static final String[] STREAM_SETTINGS_LABELS = new String[StreamSettings.values().length];
+
+	private static final String[] NETWORK_INFORMATION_LABELS = new String[NetworkInformation.values().length];
+
+	static {
+		for (StreamSettings streamSettings : StreamSettings.values()) {
+			STREAM_SETTINGS_LABELS[streamSettings.ordinal()] = streamSettings.getValue();
+		}
+		for (NetworkInformation network : NetworkInformation.values()) {
+			NETWORK_INFORMATION_LABELS[network.ordinal()] = network.getValue();
+		}
+	}
+
+	/**
+	 * Streaming settings through a compiled regex per field
+	 */
+	@Benchmark
+	public void regexStreamingSettings(Blackhole blackhole) {
+		for (String label : STREAM_SETTINGS_LABELS) {
+			blackhole.consume(extractByRegex(STREAMING_SETTINGS_RESPONSE, label));
+		}
+	}
+
+	/**
+	 * Streaming settings through one pass of {@link ResponseParser}
+	 */
+	@Benchmark
+	public void parserStreamingSettings(Blackhole blackhole) {
+		Map<String, String> values = ResponseParser.parse(STREAMING_SETTINGS_RESPONSE, STREAM_SETTINGS_LABELS);
+		for (String label : STREAM_SETTINGS_LABELS) {
+			blackhole.consume(values.getOrDefault(label, VaddioNanoConstant.NONE));
+		}
+	}
+
+	/**
+	 * Network settings through a compiled regex per field
+	 */
+	@Benchmark
+	public void regexNetworkSettings(Blackhole blackhole) {
+		for (String label : NETWORK_INFORMATION_LABELS) {
+			blackhole.consume(extractByRegex(NETWORK_SETTINGS_RESPONSE, label));
+		}
+	}
+
+	/**
+	 * Network settings through one pass of {@link ResponseParser}
+	 */
+	@Benchmark
+	public void parserNetworkSettings(Blackhole blackhole) {
+		Map<String, String> values = ResponseParser.parse(NETWORK_SETTINGS_RESPONSE, NETWORK_INFORMATION_LABELS);
+		for (String label : NETWORK_INFORMATION_LABELS) {
+			blackhole.consume(values.getOrDefault(label, VaddioNanoConstant.NONE));
+		}
+	}
+
+	/**
+	 * Previous extraction, a pattern is compiled on every call
+	 *
+	 * @param response the response is response of device
+	 * @param label the label is label preceding the value
+	 * @return String is value of the label
+	 */
+	private static String extractByRegex(String response, String label) {
+		Pattern pattern = Pattern.compile(label + "(.*?)\r\n");
+		Matcher matcher = pattern.matcher(response);
+		if (matcher.find()) {
+			return matcher.group(1).trim();
+		}
+		return VaddioNanoConstant.NONE;
+	}
+
+	/**
+	 * Run the benchmark from the test classpath
+	 *
+	 * @param args the args are not used
+	 * @throws Exception if the benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder().include(ResponseParserBenchmark.class.getSimpleName()).build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.benchmark;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.dto.monitor.Statistics;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.VaddioBridgeNanoCommunicator;
+import com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common.VaddioNanoConstant;
+
+/**
+ * StatisticsAssemblyBenchmark measures a poll of {@link VaddioBridgeNanoCommunicator#getMultipleStatistics()} on the responses recorded
+ * from an AV Bridge Nano in benchmark/avbridge-nano-session.txt. The communicator sends its commands to a stubbed send() which answers
+ * from the recorded session, so the poll covers building the commands, splitting the pipelined responses, caching, parsing and assembling
+ * the statistics and controllable properties. Run it with the GC profiler to see the allocation rate
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatisticsAssemblyBenchmark {
+
+	private static final String SESSION_RESOURCE = "/benchmark/avbridge-nano-session.txt";
+	private static final String COMMENT = "#";
+	private static final String PROMPT_LINE = ">";
+	private static final String STALE_PROPERTY = VaddioNanoConstant.POLL_STATUS + VaddioNanoConstant.HASH + VaddioNanoConstant.STALE;
+
+	private Map<String, String> responsesByCommand;
+
+	/**
+	 * Load the recorded responses, and poll them once to check every command of the poll has a recorded response
+	 *
+	 * @throws Exception if the responses can't be loaded or a command isn't recorded
+	 */
+	@Setup
+	public void setup() throws Exception {
+		responsesByCommand = loadSession();
+		for (String configManagement : new String[] { VaddioNanoConstant.TRUE, VaddioNanoConstant.FALSE }) {
+			RecordedSessionCommunicator communicator = createCommunicator(configManagement);
+			List<Statistics> statistics = communicator.getMultipleStatistics();
+			if (!communicator.missingCommands.isEmpty()) {
+				throw new IllegalStateException(String.format("No response of %s is recorded in %s", communicator.missingCommands, SESSION_RESOURCE));
+			}
+			if (VaddioNanoConstant.TRUE.equals(((ExtendedStatistics) statistics.get(0)).getStatistics().get(STALE_PROPERTY))) {
+				throw new IllegalStateException(String.format("The poll of %s is stale", SESSION_RESOURCE));
+			}
+		}
+	}
+
+	/**
+	 * First poll of a communicator with config management enabled, every group is retrieved and assembled
+	 *
+	 * @return List of Statistics of the poll
+	 * @throws Exception if the poll fails
+	 */
+	@Benchmark
+	public List<Statistics> pollWithConfigManagement() throws Exception {
+		return createCommunicator(VaddioNanoConstant.TRUE).getMultipleStatistics();
+	}
+
+	/**
+	 * First poll of a communicator with config management disabled, the audio groups are left out
+	 *
+	 * @return List of Statistics of the poll
+	 * @throws Exception if the poll fails
+	 */
+	@Benchmark
+	public List<Statistics> pollWithoutConfigManagement() throws Exception {
+		return createCommunicator(VaddioNanoConstant.FALSE).getMultipleStatistics();
+	}
+
+	/**
+	 * Create a communicator answered from the recorded session
+	 *
+	 * @param configManagement the configManagement is value of config management
+	 * @return RecordedSessionCommunicator instance
+	 */
+	private RecordedSessionCommunicator createCommunicator(String configManagement) {
+		RecordedSessionCommunicator communicator = new RecordedSessionCommunicator(responsesByCommand);
+		communicator.setHost("127.0.0.1");
+		communicator.setConfigManagement(configManagement);
+		return communicator;
+	}
+
+	/**
+	 * Load the recorded session, the response lines are terminated by CR LF and the prompt as the device sends them
+	 *
+	 * @return Map of command and response
+	 * @throws Exception if the session can't be read
+	 */
+	private static Map<String, String> loadSession() throws Exception {
+		Map<String, String> responsesByCommand = new HashMap<>();
+		try (InputStream in = StatisticsAssemblyBenchmark.class.getResourceAsStream(SESSION_RESOURCE)) {
+			if (in == null) {
+				throw new IllegalStateException(String.format("Resource %s is not found", SESSION_RESOURCE));
+			}
+			BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+			List<String> lines = new ArrayList<>();
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (lines.isEmpty() && (line.isEmpty() || line.startsWith(COMMENT))) {
+					continue;
+				}
+				if (!PROMPT_LINE.equals(line.trim())) {
+					lines.add(line);
+					continue;
+				}
+				responsesByCommand.put(lines.get(0).trim(), String.join(VaddioNanoConstant.NEW_LINE, lines) + VaddioNanoConstant.NEW_LINE + VaddioNanoConstant.PROMPT);
+				lines.clear();
+			}
+		}
+		return responsesByCommand;
+	}
+
+	/**
+	 * Run the benchmark from the test classpath with the GC profiler, which reports the allocation rate of every benchmark
+	 *
+	 * @param args the args are not used
+	 * @throws Exception if the benchmark fails
+	 */
+	public static void main(String[] args) throws Exception {
+		Options options = new OptionsBuilder().include(StatisticsAssemblyBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+
+	/**
+	 * RecordedSessionCommunicator answers every command, one or a pipelined batch of them, with its recorded response instead of the device
+	 */
+	static class RecordedSessionCommunicator extends VaddioBridgeNanoCommunicator {
+
+		private final Map<String, String> responsesByCommand;
+		private final Set<String> missingCommands = new TreeSet<>();
+
+		/**
+		 * RecordedSessionCommunicator instantiation
+		 *
+		 * @param responsesByCommand the responsesByCommand are map of command and recorded response
+		 */
+		RecordedSessionCommunicator(Map<String, String> responsesByCommand) {
+			this.responsesByCommand = responsesByCommand;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 *
+		 * Answer the commands of the request in order, a command which isn't recorded is answered with the error of the device
+		 */
+		@Override
+		public String send(String request) {
+			StringBuilder response = new StringBuilder();
+			for (String command : request.split("[\r\n]+")) {
+				command = command.trim();
+				if (command.isEmpty()) {
+					continue;
+				}
+				String recordedResponse = responsesByCommand.get(command);
+				if (recordedResponse == null) {
+					missingCommands.add(command);
+					recordedResponse = command + VaddioNanoConstant.NEW_LINE + "Error: response error" + VaddioNanoConstant.NEW_LINE + VaddioNanoConstant.PROMPT;
+				}
+				response.append(recordedResponse);
+			}
+			return response.toString();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CommandCircuitBreakerTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class CommandCircuitBreakerTest {
+
+	/**
+	 * Test failures below the threshold
+	 *
+	 * Expect the breaker stays closed and the command is allowed
+	 */
+	@Test
+	void testClosedBelowThreshold() {
+		CommandCircuitBreaker circuitBreaker = new CommandCircuitBreaker();
+		for (int i = 1; i < VaddioNanoConstant.CIRCUIT_BREAKER_FAILURE_THRESHOLD; i++) {
+			circuitBreaker.recordFailure(0);
+		}
+		Assertions.assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+		Assertions.assertTrue(circuitBreaker.allowRequest(0));
+	}
+
+	/**
+	 * Test failures reaching the threshold
+	 *
+	 * Expect the breaker opens and rejects the command until the backoff has elapsed, then lets one attempt through
+	 */
+	@Test
+	void testOpenUntilBackoffElapsed() {
+		CommandCircuitBreaker circuitBreaker = new CommandCircuitBreaker();
+		for (int i = 0; i < VaddioNanoConstant.CIRCUIT_BREAKER_FAILURE_THRESHOLD; i++) {
+			circuitBreaker.recordFailure(0);
+		}
+		Assertions.assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+		Assertions.assertFalse(circuitBreaker.allowRequest(VaddioNanoConstant.MIN_CIRCUIT_BREAKER_BACKOFF - 1));
+		Assertions.assertTrue(circuitBreaker.allowRequest(VaddioNanoConstant.MIN_CIRCUIT_BREAKER_BACKOFF));
+		Assertions.assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+	}
+
+	/**
+	 * Test a failed attempt of a half-open breaker
+	 *
+	 * Expect the breaker opens again with a doubled backoff
+	 */
+	@Test
+	void testHalfOpenFailureDoublesBackoff() {
+		CommandCircuitBreaker circuitBreaker = new CommandCircuitBreaker();
+		for (int i = 0; i < VaddioNanoConstant.CIRCUIT_BREAKER_FAILURE_THRESHOLD; i++) {
+			circuitBreaker.recordFailure(0);
+		}
+		long now = VaddioNanoConstant.MIN_CIRCUIT_BREAKER_BACKOFF;
+		Assertions.assertTrue(circuitBreaker.allowRequest(now));
+		circuitBreaker.recordFailure(now);
+		Assertions.assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+		Assertions.assertFalse(circuitBreaker.allowRequest(now + 2 * VaddioNanoConstant.MIN_CIRCUIT_BREAKER_BACKOFF - 1));
+		Assertions.assertTrue(circuitBreaker.allowRequest(now + 2 * VaddioNanoConstant.MIN_CIRCUIT_BREAKER_BACKOFF));
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DeviceStateTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class DeviceStateTest {
+
+	/**
+	 * Test a route response
+	 *
+	 * Expect the routed inputs are set in the bitmask
+	 */
+	@Test
+	void testRouteMask() {
+		DeviceState deviceState = new DeviceState();
+		Assertions.assertFalse(deviceState.hasRoutes(AudioCrosspoint.GAIN_HDMI_OUT_LEFT));
+		deviceState.update(PropertyKeyTable.enabledRoutesKey(AudioCrosspoint.GAIN_HDMI_OUT_LEFT),
+				"audio hdmi_out_left route get\r\n[line_in_right hdmi_in_left]\r\nOK\r\n> ");
+		Assertions.assertTrue(deviceState.hasRoutes(AudioCrosspoint.GAIN_HDMI_OUT_LEFT));
+		Assertions.assertEquals(DeviceState.routeBit(AudioInput.LINE_IN_RIGHT) | DeviceState.routeBit(AudioInput.HDMI_IN_LEFT),
+				deviceState.getRoutes(AudioCrosspoint.GAIN_HDMI_OUT_LEFT));
+		Assertions.assertTrue(deviceState.isRouted(AudioCrosspoint.GAIN_HDMI_OUT_LEFT, AudioInput.HDMI_IN_LEFT));
+		Assertions.assertFalse(deviceState.isRouted(AudioCrosspoint.GAIN_HDMI_OUT_LEFT, AudioInput.LINE_IN_LEFT));
+	}
+
+	/**
+	 * Test an empty route response
+	 *
+	 * Expect the routes are known and nothing is routed
+	 */
+	@Test
+	void testEmptyRoutes() {
+		DeviceState deviceState = new DeviceState();
+		deviceState.update(PropertyKeyTable.enabledRoutesKey(AudioCrosspoint.GAIN_IP_OUT_RIGHT), "audio ip_out_right route get\r\n[]\r\nOK\r\n> ");
+		Assertions.assertEquals(0, deviceState.getRoutes(AudioCrosspoint.GAIN_IP_OUT_RIGHT));
+		Assertions.assertTrue(deviceState.hasRoutes(AudioCrosspoint.GAIN_IP_OUT_RIGHT));
+	}
+
+	/**
+	 * Test converting a route bitmask to the route set list
+	 *
+	 * Expect the inputs in enum order separated by space
+	 */
+	@Test
+	void testToRouteList() {
+		int routeMask = DeviceState.routeBit(AudioInput.HDMI_IN_RIGHT) | DeviceState.routeBit(AudioInput.LINE_IN_LEFT);
+		Assertions.assertEquals("line_in_left hdmi_in_right", DeviceState.toRouteList(routeMask));
+		Assertions.assertEquals("", DeviceState.toRouteList(0));
+	}
+
+	/**
+	 * Test crosspoint gain responses and controls
+	 *
+	 * Expect the gain is stored by output and input, NaN until it's known
+	 */
+	@Test
+	void testGainMatrix() {
+		DeviceState deviceState = new DeviceState();
+		Assertions.assertTrue(Float.isNaN(deviceState.getGain(AudioCrosspoint.GAIN_LINE_OUT_LEFT, AudioInput.USB_PLAYBACK_RIGHT)));
+		deviceState.update(PropertyKeyTable.crosspointGainKey(AudioCrosspoint.GAIN_LINE_OUT_LEFT, AudioInput.USB_PLAYBACK_RIGHT),
+				"audio line_out_left crosspoint-gain usb_playback_right get\r\n-3.5\r\nOK\r\n> ");
+		Assertions.assertEquals(-3.5f, deviceState.getGain(AudioCrosspoint.GAIN_LINE_OUT_LEFT, AudioInput.USB_PLAYBACK_RIGHT));
+		Assertions.assertTrue(Float.isNaN(deviceState.getGain(AudioCrosspoint.GAIN_LINE_OUT_RIGHT, AudioInput.USB_PLAYBACK_RIGHT)));
+		deviceState.setGain(AudioCrosspoint.GAIN_LINE_OUT_RIGHT, AudioInput.USB_PLAYBACK_RIGHT, 2);
+		Assertions.assertEquals(2f, deviceState.getGain(AudioCrosspoint.GAIN_LINE_OUT_RIGHT, AudioInput.USB_PLAYBACK_RIGHT));
+	}
+
+	/**
+	 * Test volume and mute responses, then clear
+	 *
+	 * Expect the typed values, and unknown values after clear
+	 */
+	@Test
+	void testVolumeMuteAndClear() {
+		DeviceState deviceState = new DeviceState();
+		Assertions.assertTrue(deviceState.update(PropertyKeyTable.inputVolumeKey(AudioInput.LINE_IN_LEFT), "audio line_in_left volume get\r\nvolume:   -6.0 dB\r\nOK\r\n> "));
+		Assertions.assertTrue(deviceState.update(PropertyKeyTable.outputMuteKey(AudioCrosspoint.GAIN_HDMI_OUT_RIGHT), "audio hdmi_out_right mute get\r\nmute:   on\r\nOK\r\n> "));
+		Assertions.assertEquals(Float.valueOf(-6f), deviceState.getInputVolume(AudioInput.LINE_IN_LEFT));
+		Assertions.assertEquals(Boolean.TRUE, deviceState.getOutputMute(AudioCrosspoint.GAIN_HDMI_OUT_RIGHT));
+		deviceState.clear();
+		Assertions.assertNull(deviceState.getInputVolume(AudioInput.LINE_IN_LEFT));
+		Assertions.assertNull(deviceState.getOutputMute(AudioCrosspoint.GAIN_HDMI_OUT_RIGHT));
+	}
+
+	/**
+	 * Test a group which isn't kept in the typed state
+	 *
+	 * Expect the update is refused
+	 */
+	@Test
+	void testUnknownGroup() {
+		Assertions.assertFalse(new DeviceState().update(VaddioCommand.VERSION.getName(), "version\r\nOK\r\n> "));
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FirmwareCapabilitiesTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class FirmwareCapabilitiesTest {
+
+	/**
+	 * Test a rejected command
+	 *
+	 * Expect the command is unsupported until the retry interval has elapsed
+	 */
+	@Test
+	void testUnsupportedUntilRetryInterval() {
+		FirmwareCapabilities firmwareCapabilities = FirmwareCapabilities.forFirmware("AVBridgeNano 3.1.1");
+		String command = "audio line_in_left volume get";
+		firmwareCapabilities.markUnsupported(command + "\r", 0);
+		Assertions.assertFalse(firmwareCapabilities.isSupported(command, VaddioNanoConstant.UNSUPPORTED_COMMAND_RETRY_INTERVAL - 1));
+		Assertions.assertEquals(1, firmwareCapabilities.getUnsupportedCommandCount(VaddioNanoConstant.UNSUPPORTED_COMMAND_RETRY_INTERVAL - 1));
+		Assertions.assertTrue(firmwareCapabilities.isSupported(command, VaddioNanoConstant.UNSUPPORTED_COMMAND_RETRY_INTERVAL));
+		Assertions.assertEquals(0, firmwareCapabilities.getUnsupportedCommandCount(VaddioNanoConstant.UNSUPPORTED_COMMAND_RETRY_INTERVAL));
+	}
+
+	/**
+	 * Test capabilities of devices running the same firmware and another firmware
+	 *
+	 * Expect a command rejected by one device is pruned for the same firmware string only
+	 */
+	@Test
+	void testCapabilitiesAreCachedPerFirmware() {
+		FirmwareCapabilities firstDevice = FirmwareCapabilities.forFirmware("AVBridgeNano 3.1.2");
+		FirmwareCapabilities secondDevice = FirmwareCapabilities.forFirmware("AVBridgeNano 3.1.2");
+		FirmwareCapabilities otherFirmware = FirmwareCapabilities.forFirmware("AVBridgeNano 3.2.0");
+		firstDevice.markUnsupported("video mute get", 0);
+		Assertions.assertFalse(secondDevice.isSupported("video mute get", 0));
+		Assertions.assertTrue(otherFirmware.isSupported("video mute get", 0));
+		Assertions.assertEquals("AVBridgeNano 3.2.0", otherFirmware.getFirmwareVersion());
+	}
+}
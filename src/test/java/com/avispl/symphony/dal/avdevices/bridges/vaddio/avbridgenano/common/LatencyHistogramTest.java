@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LatencyHistogramTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class LatencyHistogramTest {
+
+	/**
+	 * Test percentiles of an empty histogram
+	 *
+	 * Expect every percentile is 0
+	 */
+	@Test
+	void testEmptyHistogram() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Assertions.assertEquals(0, histogram.getValueAtPercentile(50));
+		Assertions.assertEquals(0, histogram.getValueAtPercentile(99));
+	}
+
+	/**
+	 * Test percentiles of small latencies
+	 *
+	 * Expect latencies below the sub bucket count are reported exactly
+	 */
+	@Test
+	void testExactSmallValues() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 20; i++) {
+			histogram.record(i);
+		}
+		Assertions.assertEquals(10, histogram.getValueAtPercentile(50));
+		Assertions.assertEquals(19, histogram.getValueAtPercentile(95));
+		Assertions.assertEquals(20, histogram.getValueAtPercentile(100));
+	}
+
+	/**
+	 * Test percentiles of uniformly distributed latencies from 100 us to 1 s
+	 *
+	 * Expect the percentiles are within the precision of the buckets and never above the max recorded latency
+	 */
+	@Test
+	void testPercentilePrecision() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 10000; i++) {
+			histogram.record(i * 100L);
+		}
+		assertWithinPrecision(500000, histogram.getValueAtPercentile(50));
+		assertWithinPrecision(950000, histogram.getValueAtPercentile(95));
+		assertWithinPrecision(990000, histogram.getValueAtPercentile(99));
+		Assertions.assertEquals(1000000, histogram.getValueAtPercentile(100));
+	}
+
+	/**
+	 * Test recording a negative latency
+	 *
+	 * Expect the latency is counted as 0
+	 */
+	@Test
+	void testNegativeValue() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.record(-5);
+		Assertions.assertEquals(0, histogram.getValueAtPercentile(50));
+	}
+
+	/**
+	 * Assert the percentile is at least the expected latency and at most about 6% above it
+	 *
+	 * @param expected the expected is exact latency in microseconds
+	 * @param actual the actual is latency reported by the histogram
+	 */
+	private void assertWithinPrecision(long expected, long actual) {
+		Assertions.assertTrue(actual >= expected && actual <= expected * 1.07, String.format("Expected about %d but was %d", expected, actual));
+	}
+}
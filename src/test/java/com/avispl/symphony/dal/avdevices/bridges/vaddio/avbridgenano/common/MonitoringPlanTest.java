@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.Collections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MonitoringPlanTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class MonitoringPlanTest {
+
+	/**
+	 * Test an empty list of monitored groups with config management disabled
+	 *
+	 * Expect only the monitoring commands are monitored
+	 */
+	@Test
+	void testDefaultPlanWithoutConfigManagement() {
+		MonitoringPlan plan = MonitoringPlan.compile(false, "");
+		Assertions.assertTrue(plan.isMonitored(VaddioCommand.VERSION));
+		Assertions.assertTrue(plan.isMonitored(VaddioCommand.STREAM_SETTINGS));
+		Assertions.assertFalse(plan.isMonitored(VaddioCommand.AUDIO_MUTE));
+		Assertions.assertFalse(plan.isVolumeMonitored(AudioInput.HDMI_IN_LEFT));
+		Assertions.assertFalse(plan.isCrosspointMonitored(AudioCrosspoint.GAIN_HDMI_OUT_LEFT));
+	}
+
+	/**
+	 * Test an empty list of monitored groups with config management enabled
+	 *
+	 * Expect every group is monitored
+	 */
+	@Test
+	void testDefaultPlanWithConfigManagement() {
+		MonitoringPlan plan = MonitoringPlan.compile(true, null);
+		Assertions.assertTrue(plan.isMonitored(VaddioCommand.AUDIO_MUTE));
+		Assertions.assertTrue(plan.isVolumeMonitored(AudioInput.HDMI_IN_LEFT));
+		Assertions.assertTrue(plan.isMuteMonitored(AudioInput.HDMI_IN_LEFT));
+		Assertions.assertTrue(plan.isVolumeMonitored(AudioCrosspoint.GAIN_LINE_OUT_RIGHT));
+		Assertions.assertTrue(plan.isMuteMonitored(AudioCrosspoint.GAIN_LINE_OUT_RIGHT));
+		Assertions.assertTrue(plan.isCrosspointMonitored(AudioCrosspoint.GAIN_LINE_OUT_RIGHT));
+	}
+
+	/**
+	 * Test the levels groups
+	 *
+	 * Expect the volumes are monitored without the mutes
+	 */
+	@Test
+	void testLevelsWithoutMutes() {
+		MonitoringPlan plan = MonitoringPlan.compile(true, "InputLevels, OutputLevels");
+		Assertions.assertTrue(plan.isVolumeMonitored(AudioInput.USB_PLAYBACK_LEFT));
+		Assertions.assertFalse(plan.isMuteMonitored(AudioInput.USB_PLAYBACK_LEFT));
+		Assertions.assertTrue(plan.isVolumeMonitored(AudioCrosspoint.GAIN_IP_OUT_LEFT));
+		Assertions.assertFalse(plan.isMuteMonitored(AudioCrosspoint.GAIN_IP_OUT_LEFT));
+	}
+
+	/**
+	 * Test a single crosspoint output and an unknown group
+	 *
+	 * Expect only the selected output is monitored and the unknown name is reported
+	 */
+	@Test
+	void testCrosspointOutputAndUnknownGroup() {
+		MonitoringPlan plan = MonitoringPlan.compile(true, "CrosspointHDMIOutLeft,Unknown");
+		Assertions.assertTrue(plan.isCrosspointMonitored(AudioCrosspoint.GAIN_HDMI_OUT_LEFT));
+		Assertions.assertFalse(plan.isCrosspointMonitored(AudioCrosspoint.GAIN_HDMI_OUT_RIGHT));
+		Assertions.assertEquals(Collections.singletonList("Unknown"), plan.getUnknownGroups());
+	}
+
+	/**
+	 * Test controllable groups with config management disabled
+	 *
+	 * Expect the controllable groups are skipped
+	 */
+	@Test
+	void testControlGroupsWithoutConfigManagement() {
+		MonitoringPlan plan = MonitoringPlan.compile(false, "NetworkSettings,OutputMutes,CrosspointHDMIOutLeft");
+		Assertions.assertTrue(plan.isMonitored(VaddioCommand.NETWORK_INFO));
+		Assertions.assertFalse(plan.isMuteMonitored(AudioCrosspoint.GAIN_HDMI_OUT_LEFT));
+		Assertions.assertFalse(plan.isCrosspointMonitored(AudioCrosspoint.GAIN_HDMI_OUT_LEFT));
+	}
+}
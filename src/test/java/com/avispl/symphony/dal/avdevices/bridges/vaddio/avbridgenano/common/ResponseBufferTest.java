@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ResponseBufferTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class ResponseBufferTest {
+
+	/**
+	 * Test a response with ANSI escape sequences
+	 *
+	 * Expect the escape sequences are dropped and the prompt terminator is detected
+	 */
+	@Test
+	void testDropEscapeSequences() {
+		ResponseBuffer responseBuffer = new ResponseBuffer();
+		write(responseBuffer, "\u001B[2Kvideo mute get\r\nmute: off\r\nOK\r\n\u001B[1;32m> ");
+		Assertions.assertEquals("video mute get\r\nmute: off\r\nOK\r\n> ", responseBuffer.toString());
+		Assertions.assertTrue(responseBuffer.endsWith(VaddioNanoConstant.PROMPT));
+		Assertions.assertEquals(1, responseBuffer.getPromptCount());
+	}
+
+	/**
+	 * Test an escape sequence split between two reads
+	 *
+	 * Expect the sequence is dropped as a whole
+	 */
+	@Test
+	void testEscapeSequenceSplitBetweenReads() {
+		ResponseBuffer responseBuffer = new ResponseBuffer();
+		write(responseBuffer, "OK\u001B[1");
+		write(responseBuffer, ";32mdone");
+		Assertions.assertEquals("OKdone", responseBuffer.toString());
+	}
+
+	/**
+	 * Test the output of pipelined commands, the prompt is split between two reads
+	 *
+	 * Expect every prompt is counted once
+	 */
+	@Test
+	void testCountPrompts() {
+		ResponseBuffer responseBuffer = new ResponseBuffer();
+		write(responseBuffer, "version\r\nOK\r\n> network settings get\r\nOK\r\n>");
+		Assertions.assertEquals(1, responseBuffer.getPromptCount());
+		write(responseBuffer, " ");
+		Assertions.assertEquals(2, responseBuffer.getPromptCount());
+		Assertions.assertFalse(responseBuffer.endsWith("OK"));
+	}
+
+	/**
+	 * Test a buffer reused for another response
+	 *
+	 * Expect the previous response and prompts are cleared
+	 */
+	@Test
+	void testReset() {
+		ResponseBuffer responseBuffer = new ResponseBuffer();
+		write(responseBuffer, "OK\r\n> ");
+		responseBuffer.reset();
+		write(responseBuffer, "Syntax error");
+		Assertions.assertEquals("Syntax error", responseBuffer.toString());
+		Assertions.assertEquals(0, responseBuffer.getPromptCount());
+	}
+
+	/**
+	 * Test a response larger than the initial capacity
+	 *
+	 * Expect the buffer grows and keeps every byte
+	 */
+	@Test
+	void testGrow() {
+		ResponseBuffer responseBuffer = new ResponseBuffer();
+		StringBuilder response = new StringBuilder();
+		for (int i = 0; i < 3000; i++) {
+			response.append((char) ('a' + i % 26));
+		}
+		write(responseBuffer, response.toString());
+		Assertions.assertEquals(response.toString(), responseBuffer.toString());
+	}
+
+	/**
+	 * Write the text to the buffer as one read from the channel
+	 *
+	 * @param responseBuffer the responseBuffer is ResponseBuffer instance
+	 * @param text the text is ASCII text
+	 */
+	private void write(ResponseBuffer responseBuffer, String text) {
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		responseBuffer.write(bytes, 0, bytes.length);
+	}
+}
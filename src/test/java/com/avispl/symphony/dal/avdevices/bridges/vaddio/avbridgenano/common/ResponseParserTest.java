@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ResponseParserTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class ResponseParserTest {
+
+	private static final String VERSION_RESPONSE = "version\r\nSystem Version   AV-Bridge-Nano 1.2.0\r\nAudio Version  3.4\r\nOK\r\n> ";
+
+	/**
+	 * Test parsing several labels of a response
+	 *
+	 * Expect the trimmed value of every label found, and no entry for a missing label
+	 */
+	@Test
+	void testParseLabels() {
+		Map<String, String> values = ResponseParser.parse(VERSION_RESPONSE, VaddioNanoConstant.SYSTEM_VERSION_LABEL, "Audio Version", "Missing");
+		Assertions.assertEquals("AV-Bridge-Nano 1.2.0", values.get(VaddioNanoConstant.SYSTEM_VERSION_LABEL));
+		Assertions.assertEquals("3.4", values.get("Audio Version"));
+		Assertions.assertFalse(values.containsKey("Missing"));
+	}
+
+	/**
+	 * Test parsing a null response
+	 *
+	 * Expect an empty map
+	 */
+	@Test
+	void testParseNullResponse() {
+		Assertions.assertTrue(ResponseParser.parse(null, VaddioNanoConstant.SYSTEM_VERSION_LABEL).isEmpty());
+	}
+
+	/**
+	 * Test extracting a single label
+	 *
+	 * Expect the value of the label, or None if the label is missing or not terminated by a line
+	 */
+	@Test
+	void testExtractValue() {
+		Assertions.assertEquals("AV-Bridge-Nano 1.2.0", ResponseParser.extractValue(VERSION_RESPONSE, VaddioNanoConstant.SYSTEM_VERSION_LABEL));
+		Assertions.assertEquals(VaddioNanoConstant.NONE, ResponseParser.extractValue(VERSION_RESPONSE, "Missing"));
+		Assertions.assertEquals(VaddioNanoConstant.NONE, ResponseParser.extractValue("Audio Version 3.4", "Audio Version"));
+		Assertions.assertEquals(VaddioNanoConstant.NONE, ResponseParser.extractValue(null, "Audio Version"));
+	}
+
+	/**
+	 * Test parsing the response of a crosspoint gain command
+	 *
+	 * Expect the line following the echoed command
+	 */
+	@Test
+	void testParseResponseByCommandGain() {
+		String response = "audio hdmi_out_left crosspoint-gain line_in_left get\r\n-3.5\r\nOK\r\n> ";
+		Assertions.assertEquals("-3.5", ResponseParser.parseResponseByCommandGain(response));
+		Assertions.assertEquals(VaddioNanoConstant.NONE, ResponseParser.parseResponseByCommandGain(VaddioNanoConstant.NONE));
+	}
+
+	/**
+	 * Test fingerprints of responses
+	 *
+	 * Expect equal responses share a fingerprint and different responses don't
+	 */
+	@Test
+	void testFingerprint() {
+		Assertions.assertEquals(ResponseParser.fingerprint(VERSION_RESPONSE), ResponseParser.fingerprint(new String(VERSION_RESPONSE.toCharArray())));
+		Assertions.assertNotEquals(ResponseParser.fingerprint(VERSION_RESPONSE), ResponseParser.fingerprint(VERSION_RESPONSE.replace("3.4", "3.5")));
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2023 AVI-SPL, Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.avdevices.bridges.vaddio.avbridgenano.common;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ResponseStoreTest class
+ *
+ * @author Kevin / Symphony Dev Team<br>
+ * Created on 10/16/2026
+ * @since 1.0.1
+ */
+@Tag("Mock")
+public class ResponseStoreTest {
+	private Path directory;
+
+	@BeforeEach()
+	public void setUp() throws Exception {
+		directory = Files.createTempDirectory("response-store");
+	}
+
+	@AfterEach()
+	public void destroy() throws Exception {
+		try (Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Test saving and loading the responses of a device
+	 *
+	 * Expect the same responses in the same order
+	 */
+	@Test
+	void testRoundTrip() throws IOException {
+		Map<String, String> responses = new LinkedHashMap<>();
+		responses.put("SystemVersion", "version\r\nSystem Version   AV-Bridge-Nano 1.2.0\r\nOK\r\n> ");
+		responses.put("VideoMute", "video mute get\r\nmute: off\r\nOK\r\n> ");
+		new ResponseStore(directory.toString(), "172.31.254.176").save(responses);
+		Map<String, String> loaded = new ResponseStore(directory.toString(), "172.31.254.176").load();
+		Assertions.assertEquals(responses, loaded);
+		Assertions.assertEquals(responses.keySet().toString(), loaded.keySet().toString());
+	}
+
+	/**
+	 * Test saving over the previous responses
+	 *
+	 * Expect only the latest responses are loaded and no temporary file is left
+	 */
+	@Test
+	void testReplace() throws IOException {
+		ResponseStore responseStore = new ResponseStore(directory.toString(), "nano:22");
+		Map<String, String> responses = new LinkedHashMap<>();
+		responses.put("AudioMute", "mute: on");
+		responseStore.save(responses);
+		responses.clear();
+		responses.put("VideoMute", "mute: off");
+		responseStore.save(responses);
+		Assertions.assertEquals(responses, responseStore.load());
+		try (Stream<Path> paths = Files.list(directory)) {
+			Assertions.assertEquals(1, paths.count());
+		}
+	}
+
+	/**
+	 * Test a response too long for the file format
+	 *
+	 * Expect the response is skipped and the others are stored
+	 */
+	@Test
+	void testSkipLongResponse() throws IOException {
+		StringBuilder longResponse = new StringBuilder();
+		for (int i = 0; i < 30000; i++) {
+			longResponse.append('x');
+		}
+		Map<String, String> responses = new LinkedHashMap<>();
+		responses.put("StreamingSettings", longResponse.toString());
+		responses.put("VideoMute", "mute: off");
+		ResponseStore responseStore = new ResponseStore(directory.toString(), "nano");
+		responseStore.save(responses);
+		Map<String, String> loaded = responseStore.load();
+		Assertions.assertFalse(loaded.containsKey("StreamingSettings"));
+		Assertions.assertEquals("mute: off", loaded.get("VideoMute"));
+	}
+
+	/**
+	 * Test loading a device which has no stored responses
+	 *
+	 * Expect an empty map
+	 */
+	@Test
+	void testLoadMissingFile() throws IOException {
+		Assertions.assertTrue(new ResponseStore(directory.toString(), "unknown").load().isEmpty());
+	}
+}